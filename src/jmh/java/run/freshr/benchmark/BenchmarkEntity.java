@@ -0,0 +1,49 @@
+package run.freshr.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 측정용 Entity
+ *
+ * @author FreshR
+ * @apiNote {@link com.querydsl.core.types.dsl.PathBuilder} 로 {@link com.querydsl.core.types.Path} 를
+ *          생성하기 위한 측정용 Entity
+ * @since 2026. 10. 17. 오후 3:48:12
+ */
+public class BenchmarkEntity {
+
+  @Comment("일련 번호")
+  private Long id;
+
+  @Comment("이름")
+  @Column(length = 50)
+  private String name;
+
+  @Comment("상태")
+  @Enumerated(EnumType.STRING)
+  private Status status;
+
+  @Comment("금액")
+  private BigDecimal amount;
+
+  @Comment("등록 날짜")
+  private LocalDateTime createAt;
+
+  /**
+   * 측정용 상태
+   *
+   * @author FreshR
+   * @apiNote 측정용 상태
+   * @since 2026. 10. 17. 오후 3:48:12
+   */
+  public enum Status {
+    ACTIVE,
+    INACTIVE
+  }
+
+}
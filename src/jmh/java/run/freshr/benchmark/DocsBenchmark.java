@@ -0,0 +1,125 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.restdocs.ManualRestDocumentation;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import run.freshr.common.extensions.TestWebExtensionAware;
+
+/**
+ * 문서 작성 측정
+ *
+ * @author FreshR
+ * @apiNote 측정용 controller 에 요청하고 {@link TestWebExtensionAware#docs(ResourceSnippetParameters)} 로<br>
+ *          문서를 작성하는 과정을 측정
+ * @since 2026. 10. 17. 오후 3:48:12
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+public class DocsBenchmark {
+
+  private AnnotationConfigWebApplicationContext context;
+  private ManualRestDocumentation restDocumentation;
+  private BenchmarkSuite suite;
+  private ResourceSnippetParameters snippets;
+
+  @Setup
+  public void setup() {
+    context = new AnnotationConfigWebApplicationContext();
+    context.setServletContext(new MockServletContext());
+    context.register(BenchmarkConfiguration.class);
+    context.refresh();
+
+    restDocumentation = new ManualRestDocumentation("build/jmh-snippets");
+    restDocumentation.beforeTest(DocsBenchmark.class, "docs");
+
+    suite = new BenchmarkSuite();
+    suite.beforeEach(context, restDocumentation);
+
+    snippets = ResourceSnippetParameters.builder()
+        .summary("측정용 조회")
+        .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    restDocumentation.afterTest();
+    context.close();
+  }
+
+  @Benchmark
+  public MvcResult get() throws Exception {
+    return suite.GET("/benchmark/{id}", 1).andReturn();
+  }
+
+  @Benchmark
+  public MvcResult docs() throws Exception {
+    return suite.GET("/benchmark/{id}", 1).andDo(suite.docs(snippets)).andReturn();
+  }
+
+  /**
+   * 측정용 테스트
+   *
+   * @author FreshR
+   * @apiNote Spring Context 없이 {@link TestWebExtensionAware} 기능을 사용하기 위한 측정용 테스트
+   * @since 2026. 10. 17. 오후 3:48:12
+   */
+  public static class BenchmarkSuite extends TestWebExtensionAware {
+
+  }
+
+  /**
+   * 측정용 설정
+   *
+   * @author FreshR
+   * @apiNote 측정용 controller 만 등록한 Web MVC 설정
+   * @since 2026. 10. 17. 오후 3:48:12
+   */
+  @Configuration
+  @EnableWebMvc
+  @Import(BenchmarkController.class)
+  public static class BenchmarkConfiguration {
+
+  }
+
+  /**
+   * 측정용 controller
+   *
+   * @author FreshR
+   * @apiNote 측정용 controller
+   * @since 2026. 10. 17. 오후 3:48:12
+   */
+  @RestController
+  public static class BenchmarkController {
+
+    @GetMapping("/benchmark/{id}")
+    public Map<String, Object> get(@PathVariable Long id) {
+      return Map.of(
+          "message", "OK",
+          "data", Map.of("id", id, "name", "benchmark", "tagList", List.of("a", "b", "c"))
+      );
+    }
+
+  }
+
+}
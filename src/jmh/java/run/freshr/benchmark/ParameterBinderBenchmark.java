@@ -0,0 +1,68 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import run.freshr.common.utils.ParameterBinder;
+
+/**
+ * {@link ParameterBinder} 측정
+ *
+ * @author FreshR
+ * @apiNote GET_PARAM 의 Request Parameter 설정 기능 측정
+ * @since 2026. 10. 17. 오후 3:48:12
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+public class ParameterBinderBenchmark {
+
+  private final BenchmarkSearch search = new BenchmarkSearch();
+
+  @Benchmark
+  public MockHttpServletRequestBuilder bind() {
+    MockHttpServletRequestBuilder builder = get("/benchmark");
+
+    ParameterBinder.of(search.getClass()).bind(search, builder);
+
+    return builder;
+  }
+
+  /**
+   * 측정용 상위 요청 데이터
+   *
+   * @author FreshR
+   * @apiNote 상위 클래스 필드 설정을 측정하기 위한 요청 데이터
+   * @since 2026. 10. 17. 오후 3:48:12
+   */
+  public static class BenchmarkPage {
+
+    private Integer page = 1;
+    private Integer size = 10;
+
+  }
+
+  /**
+   * 측정용 요청 데이터
+   *
+   * @author FreshR
+   * @apiNote 측정용 요청 데이터
+   * @since 2026. 10. 17. 오후 3:48:12
+   */
+  public static class BenchmarkSearch extends BenchmarkPage {
+
+    private String word = "keyword";
+    private Long id = 1L;
+    private List<Long> idList = List.of(1L, 2L, 3L, 4L, 5L);
+
+  }
+
+}
@@ -0,0 +1,119 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathBuilder;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import run.freshr.benchmark.BenchmarkEntity.Status;
+import run.freshr.common.docs.PathMetadata;
+import run.freshr.common.utils.PathMetadataCache;
+import run.freshr.common.utils.PrintUtil;
+import run.freshr.common.utils.PrintUtil.Builder;
+
+/**
+ * {@link PrintUtil} 측정
+ *
+ * @author FreshR
+ * @apiNote {@link Path} 로 작성하는 parameter & field 기능 측정<br>
+ *          {@code *Cold} 측정은 호출마다 {@link PathMetadataCache} 를 비워서 캐시가 줄이는 비용을 비교한다.
+ * @since 2026. 10. 17. 오후 3:48:12
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+public class PrintUtilBenchmark {
+
+  private Path<?>[] paths;
+  private Builder builder;
+
+  @Setup
+  public void setup() {
+    PathBuilder<BenchmarkEntity> entity = new PathBuilder<>(BenchmarkEntity.class,
+        "benchmarkEntity");
+
+    paths = new Path<?>[]{
+        entity.getNumber("id", Long.class),
+        entity.getString("name"),
+        entity.getEnum("status", Status.class),
+        entity.getNumber("amount", BigDecimal.class),
+        entity.getDateTime("createAt", LocalDateTime.class)
+    };
+    builder = PrintUtil.builder();
+  }
+
+  @Benchmark
+  public HashMap<String, Object> pathMap() {
+    return builder.pathMap(paths[1]);
+  }
+
+  @Benchmark
+  public HashMap<String, Object> pathMapCold(ColdCache coldCache) {
+    return builder.pathMap(paths[1]);
+  }
+
+  @Benchmark
+  public PathMetadata pathMetadata() {
+    return builder.pathMetadata(paths[1]);
+  }
+
+  @Benchmark
+  public PathMetadata pathMetadataCold(ColdCache coldCache) {
+    return builder.pathMetadata(paths[1]);
+  }
+
+  @Benchmark
+  public PrintUtil fieldPath() {
+    return PrintUtil
+        .builder()
+        .prefix("data")
+        .field(paths)
+        .build();
+  }
+
+  @Benchmark
+  public PrintUtil parameterPath() {
+    return PrintUtil
+        .builder()
+        .parameter(paths)
+        .build();
+  }
+
+  @Benchmark
+  public PrintUtil fieldPathCold(ColdCache coldCache) {
+    return PrintUtil
+        .builder()
+        .prefix("data")
+        .field(paths)
+        .build();
+  }
+
+  /**
+   * 빈 캐시 상태
+   *
+   * @author FreshR
+   * @apiNote 측정 호출 전마다 {@link PathMetadataCache} 초기화<br>
+   *          {@link Level#Invocation} 은 호출마다 setup 을 실행하므로 짧은 측정에는 setup 비용이 일부 섞인다.
+   * @since 2026. 10. 18. 오전 1:32:10
+   */
+  @State(Scope.Thread)
+  public static class ColdCache {
+
+    @Setup(Level.Invocation)
+    public void clear() {
+      PathMetadataCache.clear();
+    }
+
+  }
+
+}
@@ -0,0 +1,46 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
+import static org.springframework.restdocs.payload.JsonFieldType.STRING;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import run.freshr.common.docs.ResponseDocs;
+import run.freshr.common.utils.PrintUtil;
+
+/**
+ * {@link ResponseDocs} 측정
+ *
+ * @author FreshR
+ * @apiNote 공통 반환 구조 builder 기능 측정
+ * @since 2026. 10. 17. 오후 3:48:12
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+public class ResponseDocsBenchmark {
+
+  @Benchmark
+  public PrintUtil page() {
+    return ResponseDocs
+        .page()
+        .field("id", "일련 번호", NUMBER)
+        .field("name", "이름", STRING)
+        .build();
+  }
+
+  @Benchmark
+  public PrintUtil cursor() {
+    return ResponseDocs
+        .cursor()
+        .field("id", "일련 번호", NUMBER)
+        .field("name", "이름", STRING)
+        .build();
+  }
+
+}
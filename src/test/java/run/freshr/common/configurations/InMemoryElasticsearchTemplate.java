@@ -0,0 +1,957 @@
+package run.freshr.common.configurations;
+
+import static java.util.Objects.isNull;
+import static org.springframework.util.CollectionUtils.isEmpty;
+import static org.springframework.util.StringUtils.hasText;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.elasticsearch.core.AbstractElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsImpl;
+import org.springframework.data.elasticsearch.core.SearchScrollHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.cluster.ClusterOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BaseQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.Criteria.CriteriaEntry;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.MoreLikeThisQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateResponse;
+import org.springframework.data.elasticsearch.core.reindex.ReindexRequest;
+import org.springframework.data.elasticsearch.core.reindex.ReindexResponse;
+import org.springframework.data.elasticsearch.core.script.Script;
+
+/**
+ * 메모리 Elasticsearch 설정
+ *
+ * @author FreshR
+ * @apiNote Elasticsearch 서버 없이 {@link Map} 에 document 를 저장하는 {@code ElasticsearchOperations}<br>
+ *          entity 변환과 callback 은 {@link AbstractElasticsearchTemplate} 을 그대로 사용하고
+ *          저장, 조회, 삭제, 수정과 {@link CriteriaQuery} 검색을 메모리에서 처리한다.<br>
+ *          {@link CriteriaQuery} 는 일치, 포함, 범위, 목록, 존재 조건을 비교하고
+ *          문자열 비교는 대소문자를 구분하지 않는다.<br>
+ *          비교할 수 없는 조건(geo, expression 등)과 {@link CriteriaQuery} 가 아닌 검색은
+ *          {@link UnsupportedOperationException} 을 던진다.
+ *          단, {@link Query#findAll()} 은 모든 document 와 일치한다.<br>
+ *          score 는 모두 1 이며 script, reindex, point in time, aggregation 은 지원하지 않는다.
+ * @since 2026. 10. 17. 오후 10:12:31
+ */
+public class InMemoryElasticsearchTemplate extends AbstractElasticsearchTemplate {
+
+  private static final String SCROLL_ID = "in-memory";
+  private static final String MATCH_ALL = "{\"match_all\":{}}"; // Query.findAll() 검색 조건
+
+  /**
+   * 저장소
+   *
+   * @apiNote index 이름 별 id 별 document<br>
+   *          {@link #doCopy()} 로 생성한 template 과 공유
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private final Map<String, Map<String, Stored>> indices;
+  /**
+   * sequence number
+   *
+   * @apiNote 저장할 때마다 증가
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private final AtomicLong sequence;
+
+  /**
+   * 생성자
+   *
+   * @param elasticsearchConverter elasticsearch converter
+   * @apiNote 빈 저장소로 생성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  public InMemoryElasticsearchTemplate(ElasticsearchConverter elasticsearchConverter) {
+    this(elasticsearchConverter, new HashMap<>(), new AtomicLong());
+  }
+
+  /**
+   * 생성자
+   *
+   * @param elasticsearchConverter elasticsearch converter
+   * @param indices                저장소
+   * @param sequence               sequence number
+   * @apiNote 저장소를 공유하는 복사본 생성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private InMemoryElasticsearchTemplate(ElasticsearchConverter elasticsearchConverter,
+      Map<String, Map<String, Stored>> indices, AtomicLong sequence) {
+    super(elasticsearchConverter);
+
+    this.indices = indices;
+    this.sequence = sequence;
+  }
+
+  /**
+   * 저장소 초기화
+   *
+   * @apiNote 모든 index 삭제
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  public void clear() {
+    synchronized (indices) {
+      indices.clear();
+    }
+  }
+
+  @Override
+  protected AbstractElasticsearchTemplate doCopy() {
+    return new InMemoryElasticsearchTemplate(elasticsearchConverter, indices, sequence);
+  }
+
+  @Override
+  public String doIndex(IndexQuery query, IndexCoordinates index) {
+    maybeCallbackBeforeConvertWithQuery(query, index);
+
+    IndexedObjectInformation information = store(query, index);
+
+    if (!isNull(query.getObject())) {
+      query.setObject(entityOperations.updateIndexedObject(query.getObject(), information,
+          elasticsearchConverter, routingResolver));
+    }
+
+    maybeCallbackAfterSaveWithQuery(query, index);
+
+    return information.id();
+  }
+
+  @Override
+  public <T> T get(String id, Class<T> clazz, IndexCoordinates index) {
+    synchronized (indices) {
+      Stored stored = documents(index.getIndexName()).get(id);
+
+      return isNull(stored) ? null
+          : new ReadDocumentCallback<>(elasticsearchConverter, clazz, index)
+              .doWith(stored.read(index.getIndexName(), id));
+    }
+  }
+
+  @Override
+  public <T> List<MultiGetItem<T>> multiGet(Query query, Class<T> clazz, IndexCoordinates index) {
+    List<String> ids = new ArrayList<>(query.getIds());
+
+    query.getIdsWithRouting().forEach(idWithRouting -> ids.add(idWithRouting.id()));
+
+    return ids.stream()
+        .map(id -> MultiGetItem.of(get(id, clazz, index), null))
+        .toList();
+  }
+
+  @Override
+  protected boolean doExists(String id, IndexCoordinates index) {
+    synchronized (indices) {
+      return documents(index.getIndexName()).containsKey(id);
+    }
+  }
+
+  @Override
+  protected String doDelete(String id, String routing, IndexCoordinates index) {
+    synchronized (indices) {
+      documents(index.getIndexName()).remove(id);
+
+      return id;
+    }
+  }
+
+  @Override
+  public ByQueryResponse delete(Query query, Class<?> clazz, IndexCoordinates index) {
+    synchronized (indices) {
+      List<Match> matched = find(query, clazz, index);
+
+      matched.forEach(match -> documents(match.indexName()).remove(match.id()));
+
+      return ByQueryResponse.builder()
+          .withTotal(matched.size())
+          .withDeleted(matched.size())
+          .build();
+    }
+  }
+
+  @Override
+  public UpdateResponse update(UpdateQuery query, IndexCoordinates index) {
+    if (hasText(query.getScript()) || hasText(query.getScriptName())) {
+      throw new UnsupportedOperationException("In-memory Elasticsearch does not support script");
+    }
+
+    synchronized (indices) {
+      Map<String, Stored> documents = documents(index.getIndexName());
+      Stored stored = documents.get(query.getId());
+
+      if (isNull(stored)) {
+        Document upsert = !isNull(query.getUpsert()) ? query.getUpsert()
+            : Boolean.TRUE.equals(query.getDocAsUpsert()) ? query.getDocument()
+                : null;
+
+        if (isNull(upsert)) {
+          throw new DataRetrievalFailureException("Document " + query.getId()
+              + " is not found in " + index.getIndexName());
+        }
+
+        documents.put(query.getId(), new Stored(Document.from(upsert),
+            sequence.incrementAndGet(), 1));
+
+        return UpdateResponse.of(UpdateResponse.Result.CREATED);
+      }
+
+      Document source = Document.from(stored.source());
+
+      if (!isNull(query.getDocument())) {
+        merge(source, query.getDocument());
+      }
+
+      documents.put(query.getId(), new Stored(source, sequence.incrementAndGet(),
+          stored.version() + 1));
+
+      return UpdateResponse.of(UpdateResponse.Result.UPDATED);
+    }
+  }
+
+  @Override
+  public void bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions,
+      IndexCoordinates index) {
+    queries.forEach(query -> update(query, index));
+  }
+
+  @Override
+  public List<IndexedObjectInformation> doBulkOperation(List<?> queries, BulkOptions bulkOptions,
+      IndexCoordinates index) {
+    List<IndexedObjectInformation> informationList = new ArrayList<>();
+
+    for (Object query : queries) {
+      if (query instanceof IndexQuery indexQuery) {
+        informationList.add(store(indexQuery, index));
+      } else if (query instanceof UpdateQuery updateQuery) {
+        update(updateQuery, index);
+        informationList.add(new IndexedObjectInformation(updateQuery.getId(),
+            index.getIndexName(), null, null, null));
+      }
+    }
+
+    updateIndexedObjectsWithQueries(queries, informationList);
+
+    return informationList;
+  }
+
+  @Override
+  public ByQueryResponse updateByQuery(UpdateQuery updateQuery, IndexCoordinates index) {
+    throw new UnsupportedOperationException(
+        "In-memory Elasticsearch does not support update by query");
+  }
+
+  @Override
+  public ReindexResponse reindex(ReindexRequest reindexRequest) {
+    throw new UnsupportedOperationException("In-memory Elasticsearch does not support reindex");
+  }
+
+  @Override
+  public String submitReindex(ReindexRequest reindexRequest) {
+    throw new UnsupportedOperationException("In-memory Elasticsearch does not support reindex");
+  }
+
+  @Override
+  public long count(Query query, Class<?> clazz, IndexCoordinates index) {
+    synchronized (indices) {
+      return find(query, clazz, index).size();
+    }
+  }
+
+  @Override
+  public <T> SearchHits<T> search(Query query, Class<T> clazz, IndexCoordinates index) {
+    return search(query, clazz, index, query.getPageable());
+  }
+
+  @Override
+  protected <T> SearchHits<T> doSearch(MoreLikeThisQuery query, Class<T> clazz,
+      IndexCoordinates index) {
+    throw new UnsupportedOperationException(
+        "In-memory Elasticsearch does not support more like this");
+  }
+
+  @Override
+  public <T> SearchScrollHits<T> searchScrollStart(long scrollTimeInMillis, Query query,
+      Class<T> clazz, IndexCoordinates index) {
+    return search(query, clazz, index, Pageable.unpaged());
+  }
+
+  @Override
+  public <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis,
+      Class<T> clazz, IndexCoordinates index) {
+    return new SearchHitsImpl<>(0, TotalHitsRelation.EQUAL_TO, 0, SCROLL_ID, null, List.of(),
+        null, null);
+  }
+
+  @Override
+  public void searchScrollClear(List<String> scrollIds) {
+  }
+
+  @Override
+  public <T> List<SearchHits<T>> multiSearch(List<? extends Query> queries, Class<T> clazz,
+      IndexCoordinates index) {
+    return queries.stream().map(query -> search(query, clazz, index)).toList();
+  }
+
+  @Override
+  public List<SearchHits<?>> multiSearch(List<? extends Query> queries, List<Class<?>> classes) {
+    return multiSearch(queries, classes,
+        classes.stream().map(this::getIndexCoordinatesFor).toList());
+  }
+
+  @Override
+  public List<SearchHits<?>> multiSearch(List<? extends Query> queries, List<Class<?>> classes,
+      IndexCoordinates index) {
+    return multiSearch(queries, classes, classes.stream().map(clazz -> index).toList());
+  }
+
+  @Override
+  public List<SearchHits<?>> multiSearch(List<? extends Query> queries, List<Class<?>> classes,
+      List<IndexCoordinates> indexes) {
+    List<SearchHits<?>> searchHitsList = new ArrayList<>();
+
+    for (int i = 0; i < queries.size(); i++) {
+      searchHitsList.add(search(queries.get(i), classes.get(i), indexes.get(i)));
+    }
+
+    return searchHitsList;
+  }
+
+  @Override
+  public Query matchAllQuery() {
+    return new CriteriaQuery(new Criteria());
+  }
+
+  @Override
+  public Query idsQuery(List<String> ids) {
+    return CriteriaQuery.builder(new Criteria()).withIds(ids).build();
+  }
+
+  @Override
+  public BaseQueryBuilder<?, ?> queryBuilderWithIds(List<String> ids) {
+    return CriteriaQuery.builder(new Criteria()).withIds(ids);
+  }
+
+  @Override
+  public String openPointInTime(IndexCoordinates index, Duration keepAlive,
+      Boolean ignoreUnavailable) {
+    throw new UnsupportedOperationException(
+        "In-memory Elasticsearch does not support point in time");
+  }
+
+  @Override
+  public Boolean closePointInTime(String pit) {
+    throw new UnsupportedOperationException(
+        "In-memory Elasticsearch does not support point in time");
+  }
+
+  @Override
+  public IndexOperations indexOps(Class<?> clazz) {
+    return indexOps(getIndexCoordinatesFor(clazz));
+  }
+
+  @Override
+  public IndexOperations indexOps(IndexCoordinates index) {
+    InvocationHandler handler = (proxy, method, args) -> {
+      Class<?> returnType = method.getReturnType();
+
+      synchronized (indices) {
+        switch (method.getName()) {
+          case "create", "createWithMapping" -> {
+            return isNull(indices.putIfAbsent(index.getIndexName(), new LinkedHashMap<>()));
+          }
+          case "delete" -> {
+            return !isNull(indices.remove(index.getIndexName()));
+          }
+          case "exists" -> {
+            return indices.containsKey(index.getIndexName());
+          }
+          case "getIndexCoordinates" -> {
+            return index;
+          }
+          case "toString" -> {
+            return "InMemoryIndexOperations[" + index.getIndexName() + "]";
+          }
+          case "hashCode" -> {
+            return System.identityHashCode(proxy);
+          }
+          case "equals" -> {
+            return proxy == args[0];
+          }
+          default -> {
+          }
+        }
+      }
+
+      if (method.isDefault()) {
+        return InvocationHandler.invokeDefault(proxy, method, args);
+      }
+
+      if (returnType == void.class) { // refresh
+        return null;
+      }
+
+      if (returnType == boolean.class) { // putMapping, alias, putTemplate ...
+        return !method.getName().startsWith("exists");
+      }
+
+      if (returnType == Document.class) {
+        return Document.create();
+      }
+
+      if (returnType == Settings.class) {
+        return new Settings();
+      }
+
+      if (returnType == Map.class) {
+        return new LinkedHashMap<>();
+      }
+
+      if (returnType == List.class) {
+        return new ArrayList<>();
+      }
+
+      throw new UnsupportedOperationException(
+          "In-memory Elasticsearch does not support " + method.getName());
+    };
+
+    return (IndexOperations) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[]{IndexOperations.class}, handler);
+  }
+
+  @Override
+  public ClusterOperations cluster() {
+    throw new UnsupportedOperationException("In-memory Elasticsearch does not support cluster");
+  }
+
+  @Override
+  public boolean putScript(Script script) {
+    throw new UnsupportedOperationException("In-memory Elasticsearch does not support script");
+  }
+
+  @Override
+  public Script getScript(String name) {
+    throw new UnsupportedOperationException("In-memory Elasticsearch does not support script");
+  }
+
+  @Override
+  public boolean deleteScript(String name) {
+    throw new UnsupportedOperationException("In-memory Elasticsearch does not support script");
+  }
+
+  @Override
+  public String getClusterVersion() {
+    return null;
+  }
+
+  @Override
+  public String getVendor() {
+    return "In-memory";
+  }
+
+  @Override
+  public String getRuntimeLibraryVersion() {
+    return null;
+  }
+
+  /**
+   * document 저장
+   *
+   * @param query index query
+   * @param index index
+   * @return indexed object information
+   * @apiNote id 가 없으면 UUID 로 생성<br>
+   *          index 가 없으면 생성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private IndexedObjectInformation store(IndexQuery query, IndexCoordinates index) {
+    Document source = !isNull(query.getObject())
+        ? elasticsearchConverter.mapObject(query.getObject())
+        : Document.parse(query.getSource());
+    String id = hasText(query.getId()) ? query.getId()
+        : source.hasId() ? source.getId()
+            : UUID.randomUUID().toString();
+
+    synchronized (indices) {
+      Map<String, Stored> documents = indices.computeIfAbsent(index.getIndexName(),
+          name -> new LinkedHashMap<>());
+      Stored previous = documents.get(id);
+      long version = isNull(previous) ? 1 : previous.version() + 1;
+      long seqNo = sequence.incrementAndGet();
+
+      documents.put(id, new Stored(Document.from(source), seqNo, version));
+
+      return new IndexedObjectInformation(id, index.getIndexName(), seqNo, 1L, version);
+    }
+  }
+
+  /**
+   * index 의 document 목록 조회
+   *
+   * @param indexName index 이름
+   * @return map
+   * @apiNote index 가 없으면 빈 목록
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private Map<String, Stored> documents(String indexName) {
+    return indices.getOrDefault(indexName, new LinkedHashMap<>());
+  }
+
+  /**
+   * 검색
+   *
+   * @param query    검색 조건
+   * @param clazz    entity class
+   * @param index    index
+   * @param pageable 페이지 정보
+   * @return search hits
+   * @apiNote 전체 건수는 페이지 적용 전 건수
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private <T> SearchHitsImpl<T> search(Query query, Class<T> clazz, IndexCoordinates index,
+      Pageable pageable) {
+    List<SearchHit<T>> searchHits = new ArrayList<>();
+    List<Match> matched;
+
+    synchronized (indices) {
+      matched = find(query, clazz, index);
+    }
+
+    Stream<Match> stream = matched.stream();
+
+    if (pageable.isPaged()) {
+      stream = stream.skip(pageable.getOffset()).limit(pageable.getPageSize());
+    }
+
+    if (query.isLimiting()) {
+      stream = stream.limit(query.getMaxResults());
+    }
+
+    stream.forEach(match -> {
+      T content = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index)
+          .doWith(match.read());
+
+      searchHits.add(new SearchHit<>(match.indexName(), match.id(), null, 1, null, null, null,
+          null, null, null, content));
+    });
+
+    return new SearchHitsImpl<>(matched.size(), TotalHitsRelation.EQUAL_TO, 1, SCROLL_ID, null,
+        searchHits, null, null);
+  }
+
+  /**
+   * 검색 조건과 일치하는 document 조회
+   *
+   * @param query 검색 조건
+   * @param clazz entity class
+   * @param index index
+   * @return list
+   * @apiNote 정렬 조건을 적용하고 페이지는 적용하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private List<Match> find(Query query, Class<?> clazz, IndexCoordinates index) {
+    if (!isNull(clazz)) {
+      elasticsearchConverter.updateQuery(query, clazz);
+    }
+
+    Criteria criteria = criteria(query);
+    Collection<String> ids = query.getIds();
+    List<Match> matched = new ArrayList<>();
+
+    for (String indexName : index.getIndexNames()) {
+      documents(indexName).forEach((id, stored) -> {
+        if ((isEmpty(ids) || ids.contains(id)) && matches(criteria, stored.source())) {
+          matched.add(new Match(indexName, id, stored));
+        }
+      });
+    }
+
+    Comparator<Match> comparator = null;
+    Sort sort = isNull(query.getSort()) ? Sort.unsorted() : query.getSort();
+
+    for (Order order : sort) {
+      Comparator<Match> next = Comparator.comparing(
+          match -> value(match.stored().source(), order.getProperty()),
+          Comparator.nullsLast(InMemoryElasticsearchTemplate::compare));
+
+      next = order.isAscending() ? next : next.reversed();
+      comparator = isNull(comparator) ? next : comparator.thenComparing(next);
+    }
+
+    if (!isNull(comparator)) {
+      matched.sort(comparator);
+    }
+
+    return matched;
+  }
+
+  /**
+   * 검색 조건 조회
+   *
+   * @param query 검색 조건
+   * @return criteria
+   * @apiNote {@link Query#findAll()} 은 빈 조건으로 변환하고
+   *          {@link CriteriaQuery} 가 아닌 검색은 비교할 수 없으므로 {@link UnsupportedOperationException}
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static Criteria criteria(Query query) {
+    if (query instanceof CriteriaQuery criteriaQuery) {
+      return criteriaQuery.getCriteria();
+    }
+
+    if (query instanceof StringQuery stringQuery
+        && stringQuery.getSource().replaceAll("\\s", "").equals(MATCH_ALL)) {
+      return new Criteria();
+    }
+
+    throw new UnsupportedOperationException(
+        "In-memory Elasticsearch does not support " + query.getClass().getSimpleName());
+  }
+
+  /**
+   * 검색 조건 비교
+   *
+   * @param criteria 검색 조건
+   * @param source   document
+   * @return boolean
+   * @apiNote {@code CriteriaQueryProcessor} 와 같이 or 조건이 있으면 앞의 and 조건을 묶어서 or 로 비교
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static boolean matches(Criteria criteria, Map<String, Object> source) {
+    List<Boolean> must = new ArrayList<>();
+    List<Boolean> should = new ArrayList<>();
+    boolean mustNot = false;
+
+    for (Criteria chained : criteria.getCriteriaChain()) {
+      boolean matched = matchesEntries(chained, source);
+
+      for (Criteria subCriteria : chained.getSubCriteria()) {
+        matched = matched && matches(subCriteria, source);
+      }
+
+      if (chained.isOr()) {
+        should.add(matched);
+      } else if (chained.isNegating()) {
+        mustNot = mustNot || matched;
+      } else {
+        must.add(matched);
+      }
+    }
+
+    boolean result = !must.contains(false);
+
+    if (!should.isEmpty()) {
+      result = should.contains(true) || (!must.isEmpty() && result);
+    }
+
+    return result && !mustNot;
+  }
+
+  /**
+   * 검색 조건 항목 비교
+   *
+   * @param criteria 검색 조건
+   * @param source   document
+   * @return boolean
+   * @apiNote 필드의 모든 조건 항목이 일치해야 한다.<br>
+   *          필드 값이 목록이면 하나라도 일치하면 일치
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static boolean matchesEntries(Criteria criteria, Map<String, Object> source) {
+    if (isNull(criteria.getField())) {
+      return true;
+    }
+
+    Object value = value(source, criteria.getField().getName());
+    List<CriteriaEntry> entries = new ArrayList<>(criteria.getQueryCriteriaEntries());
+
+    entries.addAll(criteria.getFilterCriteriaEntries());
+
+    return entries.stream().allMatch(entry -> value instanceof Collection<?> values
+        ? values.stream().anyMatch(element -> matches(entry, element))
+            || (values.isEmpty() && matches(entry, null))
+        : matches(entry, value));
+  }
+
+  /**
+   * 검색 조건 항목 비교
+   *
+   * @param entry 검색 조건 항목
+   * @param value 필드 값
+   * @return boolean
+   * @apiNote 비교할 수 없는 조건은 {@link UnsupportedOperationException}
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static boolean matches(CriteriaEntry entry, Object value) {
+    Object expected = entry.getValue();
+
+    return switch (entry.getKey()) {
+      case EXISTS -> !isNull(value);
+      case EMPTY -> !isNull(value) && String.valueOf(value).isEmpty();
+      case NOT_EMPTY -> !isNull(value) && !String.valueOf(value).isEmpty();
+      case EQUALS -> !isNull(value) && compare(value, expected) == 0;
+      case CONTAINS, FUZZY -> !isNull(value) && lower(value).contains(lower(expected));
+      case STARTS_WITH -> !isNull(value) && lower(value).startsWith(lower(expected));
+      case ENDS_WITH -> !isNull(value) && lower(value).endsWith(lower(expected));
+      case MATCHES, MATCHES_ALL -> {
+        if (isNull(value)) {
+          yield false;
+        }
+
+        List<String> tokens = Arrays.asList(lower(value).split("\\s+"));
+        Stream<String> expectedTokens = Arrays.stream(lower(expected).split("\\s+"));
+
+        yield entry.getKey() == Criteria.OperationKey.MATCHES
+            ? expectedTokens.anyMatch(tokens::contains)
+            : expectedTokens.allMatch(tokens::contains);
+      }
+      case REGEXP -> !isNull(value)
+          && Pattern.compile(String.valueOf(expected)).matcher(String.valueOf(value)).matches();
+      case IN -> !isNull(value) && elements(expected).anyMatch(e -> compare(value, e) == 0);
+      case NOT_IN -> isNull(value) || elements(expected).noneMatch(e -> compare(value, e) == 0);
+      case LESS -> !isNull(value) && compare(value, expected) < 0;
+      case LESS_EQUAL -> !isNull(value) && compare(value, expected) <= 0;
+      case GREATER -> !isNull(value) && compare(value, expected) > 0;
+      case GREATER_EQUAL -> !isNull(value) && compare(value, expected) >= 0;
+      case BETWEEN -> {
+        Object[] range = (Object[]) expected;
+
+        yield !isNull(value)
+            && (isNull(range[0]) || compare(value, range[0]) >= 0)
+            && (isNull(range[1]) || compare(value, range[1]) <= 0);
+      }
+      default -> throw new UnsupportedOperationException(
+          "In-memory Elasticsearch does not support criteria " + entry.getKey());
+    };
+  }
+
+  /**
+   * 필드 값 조회
+   *
+   * @param source document
+   * @param path   필드 경로
+   * @return object
+   * @apiNote 경로는 . 으로 구분하고 중간에 목록이 있으면 각 항목의 값을 목록으로 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static Object value(Object source, String path) {
+    Object value = source;
+
+    for (String name : path.split("\\.")) {
+      if (value instanceof Map<?, ?> map) {
+        value = map.get(name);
+      } else if (value instanceof Collection<?> values) {
+        value = values.stream()
+            .map(element -> value(element, name))
+            .filter(Objects::nonNull)
+            .toList();
+      } else {
+        return null;
+      }
+    }
+
+    return value;
+  }
+
+  /**
+   * 값 비교
+   *
+   * @param value    필드 값
+   * @param expected 비교 값
+   * @return int
+   * @apiNote 둘 다 숫자면 숫자로, 아니면 대소문자를 구분하지 않는 문자열로 비교
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static int compare(Object value, Object expected) {
+    BigDecimal number = number(value);
+    BigDecimal expectedNumber = number(expected);
+
+    if (!isNull(number) && !isNull(expectedNumber)) {
+      return number.compareTo(expectedNumber);
+    }
+
+    return lower(value).compareTo(lower(expected));
+  }
+
+  /**
+   * 숫자 변환
+   *
+   * @param value 값
+   * @return big decimal
+   * @apiNote 숫자가 아니면 null
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static BigDecimal number(Object value) {
+    if (value instanceof Number || value instanceof CharSequence) {
+      try {
+        return new BigDecimal(String.valueOf(value).trim());
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * 소문자 문자열 변환
+   *
+   * @param value 값
+   * @return string
+   * @apiNote 소문자 문자열 변환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static String lower(Object value) {
+    return String.valueOf(value).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 목록 변환
+   *
+   * @param value {@link Iterable} 또는 배열
+   * @return stream
+   * @apiNote IN, NOT_IN 비교 값 변환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static Stream<?> elements(Object value) {
+    if (value instanceof Iterable<?> iterable) {
+      List<Object> elements = new ArrayList<>();
+
+      iterable.forEach(elements::add);
+
+      return elements.stream();
+    }
+
+    return value instanceof Object[] array ? Arrays.stream(array) : Stream.of(value);
+  }
+
+  /**
+   * document 병합
+   *
+   * @param target 저장된 document
+   * @param source 수정할 값
+   * @apiNote Elasticsearch partial update 와 같이 객체 필드는 재귀적으로 병합
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  @SuppressWarnings("unchecked")
+  private static void merge(Map<String, Object> target, Map<String, Object> source) {
+    source.forEach((name, value) -> {
+      if (value instanceof Map<?, ?> sourceMap
+          && target.get(name) instanceof Map<?, ?> targetMap) {
+        Map<String, Object> merged = new LinkedHashMap<>((Map<String, Object>) targetMap);
+
+        merge(merged, (Map<String, Object>) sourceMap);
+        target.put(name, merged);
+      } else {
+        target.put(name, value);
+      }
+    });
+  }
+
+  /**
+   * 저장된 document
+   *
+   * @param source  document
+   * @param seqNo   sequence number
+   * @param version version
+   * @author FreshR
+   * @apiNote document 와 sequence number, version
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private record Stored(Document source, long seqNo, long version) {
+
+    /**
+     * 읽기용 document 생성
+     *
+     * @param indexName index 이름
+     * @param id        id
+     * @return document
+     * @apiNote 저장된 document 를 변경하지 않도록 복사본에 metadata 설정
+     * @author FreshR
+     * @since 2026. 10. 17. 오후 10:12:31
+     */
+    private Document read(String indexName, String id) {
+      Document document = Document.from(source);
+
+      document.setIndex(indexName);
+      document.setId(id);
+      document.setSeqNo(seqNo);
+      document.setPrimaryTerm(1);
+      document.setVersion(version);
+
+      return document;
+    }
+
+  }
+
+  /**
+   * 검색 조건과 일치한 document
+   *
+   * @param indexName index 이름
+   * @param id        id
+   * @param stored    저장된 document
+   * @author FreshR
+   * @apiNote 검색 조건과 일치한 document
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private record Match(String indexName, String id, Stored stored) {
+
+    private Document read() {
+      return stored.read(indexName, id);
+    }
+
+  }
+
+}
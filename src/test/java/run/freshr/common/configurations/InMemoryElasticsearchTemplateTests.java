@@ -0,0 +1,148 @@
+package run.freshr.common.configurations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.data.elasticsearch.repository.support.ElasticsearchRepositoryFactory;
+
+/**
+ * {@link InMemoryElasticsearchTemplate} 확인
+ *
+ * @author FreshR
+ * @apiNote Elasticsearch repository 의 저장, 파생 조회(paging & 정렬), count, 삭제 확인
+ * @since 2026. 10. 18. 오후 6:02:45
+ */
+class InMemoryElasticsearchTemplateTests {
+
+  private SampleRepository repository;
+
+  @BeforeEach
+  void beforeEach() {
+    MappingElasticsearchConverter converter =
+        new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext());
+
+    converter.afterPropertiesSet();
+    repository = new ElasticsearchRepositoryFactory(new InMemoryElasticsearchTemplate(converter))
+        .getRepository(SampleRepository.class);
+  }
+
+  @Test
+  void saveAndFind() {
+    repository.save(new Sample("1", "notice", "First", 3));
+
+    assertThat(repository.findById("1")).get()
+        .extracting(sample -> sample.title).isEqualTo("First");
+    assertThat(repository.existsById("2")).isFalse();
+
+    repository.save(new Sample("1", "notice", "Updated", 3));
+
+    assertThat(repository.findById("1")).get()
+        .extracting(sample -> sample.title).isEqualTo("Updated");
+    assertThat(repository.count()).isEqualTo(1L);
+  }
+
+  @Test
+  void derivedQueryWithPagingAndSorting() {
+    repository.saveAll(List.of(
+        new Sample("1", "notice", "A", 3),
+        new Sample("2", "notice", "B", 1),
+        new Sample("3", "event", "C", 2),
+        new Sample("4", "notice", "D", 2),
+        new Sample("5", "NOTICE", "E", 5)));
+
+    Page<Sample> first = repository.findByCategory("notice",
+        PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "ordering")));
+    Page<Sample> second = repository.findByCategory("notice",
+        PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "ordering")));
+
+    assertThat(first.getTotalElements()).isEqualTo(4L); // 문자열 비교는 대소문자 구분 없음
+    assertThat(first.getTotalPages()).isEqualTo(2);
+    assertThat(first.getContent()).extracting(sample -> sample.id).containsExactly("5", "1");
+    assertThat(second.getContent()).extracting(sample -> sample.id).containsExactly("4", "2");
+    assertThat(repository.findByOrderingBetweenOrderByOrderingAsc(2, 3))
+        .extracting(sample -> sample.id).containsExactly("3", "4", "1");
+    assertThat(repository.countByCategory("event")).isEqualTo(1L);
+  }
+
+  @Test
+  void countAndDelete() {
+    repository.saveAll(List.of(
+        new Sample("1", "notice", "A", 1),
+        new Sample("2", "event", "B", 2),
+        new Sample("3", "event", "C", 3)));
+
+    assertThat(repository.count()).isEqualTo(3L);
+
+    repository.deleteById("1");
+
+    assertThat(repository.findById("1")).isEmpty();
+    assertThat(repository.count()).isEqualTo(2L);
+
+    repository.deleteAll();
+
+    assertThat(repository.count()).isZero();
+    assertThat(repository.findAll()).isEmpty();
+  }
+
+  /**
+   * Elasticsearch 저장 document
+   *
+   * @author FreshR
+   * @apiNote keyword 분류와 정렬 순서를 가진 document
+   * @since 2026. 10. 18. 오후 6:02:45
+   */
+  @Document(indexName = "sample")
+  static class Sample {
+
+    @Id
+    private String id;
+    @Field(type = FieldType.Keyword)
+    private String category;
+    @Field(type = FieldType.Text)
+    private String title;
+    @Field(type = FieldType.Integer)
+    private Integer ordering;
+
+    Sample() {
+    }
+
+    Sample(String id, String category, String title, Integer ordering) {
+      this.id = id;
+      this.category = category;
+      this.title = title;
+      this.ordering = ordering;
+    }
+
+  }
+
+  /**
+   * Elasticsearch repository
+   *
+   * @author FreshR
+   * @apiNote {@link Sample} 저장 & 파생 조회 & 삭제
+   * @since 2026. 10. 18. 오후 6:02:45
+   */
+  interface SampleRepository extends ElasticsearchRepository<Sample, String> {
+
+    Page<Sample> findByCategory(String category, Pageable pageable);
+
+    List<Sample> findByOrderingBetweenOrderByOrderingAsc(Integer from, Integer to);
+
+    long countByCategory(String category);
+
+  }
+
+}
@@ -0,0 +1,858 @@
+package run.freshr.common.configurations;
+
+import static java.util.Objects.isNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.DefaultedRedisConnection;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+
+/**
+ * 메모리 Redis 연결 설정
+ *
+ * @author FreshR
+ * @apiNote Redis 서버 없이 {@link Map} 에 데이터를 저장하는 {@link RedisConnectionFactory}<br>
+ *          문서 작성 테스트에서 인증 토큰 저장소로 사용하는 key, string, hash, set 명령만 지원하고
+ *          지원하지 않는 명령은 {@link UnsupportedOperationException} 을 던진다.<br>
+ *          pipeline, transaction, pub/sub 은 지원하지 않으며 만료 시간은 조회할 때 확인한다.<br>
+ *          모든 연결이 하나의 저장소를 공유하고 명령은 저장소 단위로 동기화한다.
+ * @since 2026. 10. 17. 오후 10:12:31
+ */
+public class InMemoryRedisConnectionFactory implements RedisConnectionFactory {
+
+  /**
+   * 지원하지 않는 명령 결과
+   *
+   * @apiNote 명령 결과 null 과 구분
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static final Object UNSUPPORTED = new Object();
+
+  /**
+   * 저장소
+   *
+   * @apiNote key 별 저장 값
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private final Map<ByteBuffer, Entry> store = new HashMap<>();
+
+  @Override
+  public RedisConnection getConnection() {
+    return (RedisConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[]{RedisConnection.class}, new ConnectionHandler());
+  }
+
+  @Override
+  public RedisClusterConnection getClusterConnection() {
+    throw new UnsupportedOperationException("In-memory Redis does not support cluster");
+  }
+
+  @Override
+  public boolean getConvertPipelineAndTxResults() {
+    return true;
+  }
+
+  @Override
+  public RedisSentinelConnection getSentinelConnection() {
+    throw new UnsupportedOperationException("In-memory Redis does not support sentinel");
+  }
+
+  @Override
+  public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+    return null;
+  }
+
+  /**
+   * 저장소 초기화
+   *
+   * @apiNote 저장된 모든 key 삭제
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  public void clear() {
+    synchronized (store) {
+      store.clear();
+    }
+  }
+
+  /**
+   * 명령 실행
+   *
+   * @param method 명령
+   * @param args   명령 인수
+   * @return object
+   * @apiNote 명령 이름으로 key, string, hash, set, server 명령 실행<br>
+   *          지원하지 않는 명령은 {@link #UNSUPPORTED} 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private Object command(Method method, Object[] args) {
+    synchronized (store) {
+      Object result = keyCommand(method, args);
+
+      if (result == UNSUPPORTED) {
+        result = stringCommand(method, args);
+      }
+
+      if (result == UNSUPPORTED) {
+        result = hashCommand(method, args);
+      }
+
+      if (result == UNSUPPORTED) {
+        result = setCommand(method, args);
+      }
+
+      return result;
+    }
+  }
+
+  /**
+   * key 명령 실행
+   *
+   * @param method 명령
+   * @param args   명령 인수
+   * @return object
+   * @apiNote 지원하지 않는 명령은 {@link #UNSUPPORTED} 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private Object keyCommand(Method method, Object[] args) {
+    long now = System.currentTimeMillis();
+
+    return switch (method.getName()) {
+      case "del", "unlink" -> keys(args[0]).stream()
+          .filter(key -> !isNull(live(key)) && !isNull(store.remove(key)))
+          .count();
+      case "exists" -> {
+        long count = keys(args[0]).stream().filter(key -> !isNull(live(key))).count();
+
+        yield method.getReturnType() == Boolean.class ? (Object) (count > 0) : (Object) count;
+      }
+      case "type" -> type(live(key(args[0])));
+      case "keys" -> {
+        Pattern pattern = glob(string(args[0]));
+        Set<byte[]> keys = new LinkedHashSet<>();
+
+        for (ByteBuffer key : new ArrayList<>(store.keySet())) {
+          if (!isNull(live(key)) && pattern.matcher(string(key.array())).matches()) {
+            keys.add(key.array().clone());
+          }
+        }
+
+        yield keys;
+      }
+      case "rename", "renameNX" -> {
+        Entry entry = live(key(args[0]));
+        ByteBuffer target = key(args[1]);
+
+        if (isNull(entry)) {
+          throw new InvalidDataAccessApiUsageException("ERR no such key");
+        }
+
+        if (method.getName().equals("renameNX") && !isNull(live(target))) {
+          yield false;
+        }
+
+        store.remove(key(args[0]));
+        store.put(target, entry);
+
+        yield method.getReturnType() == void.class ? null : (Object) true;
+      }
+      case "expire" -> expire(key(args[0]), now + TimeUnit.SECONDS.toMillis((long) args[1]));
+      case "pExpire" -> expire(key(args[0]), now + (long) args[1]);
+      case "expireAt" -> expire(key(args[0]), TimeUnit.SECONDS.toMillis((long) args[1]));
+      case "pExpireAt" -> expire(key(args[0]), (long) args[1]);
+      case "persist" -> expire(key(args[0]), 0);
+      case "ttl", "pTtl" -> {
+        Entry entry = live(key(args[0]));
+        TimeUnit unit = args.length > 1 ? (TimeUnit) args[1]
+            : method.getName().equals("ttl") ? TimeUnit.SECONDS : TimeUnit.MILLISECONDS;
+
+        if (isNull(entry)) {
+          yield -2L;
+        }
+
+        yield entry.expireAt == 0 ? -1L
+            : unit.convert(Math.max(entry.expireAt - now, 0), TimeUnit.MILLISECONDS);
+      }
+      case "dbSize" -> new ArrayList<>(store.keySet()).stream()
+          .filter(key -> !isNull(live(key)))
+          .count();
+      case "flushDb", "flushAll" -> {
+        store.clear();
+
+        yield null;
+      }
+      default -> UNSUPPORTED;
+    };
+  }
+
+  /**
+   * string 명령 실행
+   *
+   * @param method 명령
+   * @param args   명령 인수
+   * @return object
+   * @apiNote 지원하지 않는 명령은 {@link #UNSUPPORTED} 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private Object stringCommand(Method method, Object[] args) {
+    long now = System.currentTimeMillis();
+
+    return switch (method.getName()) {
+      case "get" -> value(key(args[0]), byte[].class);
+      case "getDel" -> {
+        byte[] value = value(key(args[0]), byte[].class);
+
+        store.remove(key(args[0]));
+
+        yield value;
+      }
+      case "getSet" -> {
+        byte[] value = value(key(args[0]), byte[].class);
+
+        store.put(key(args[0]), new Entry(((byte[]) args[1]).clone(), 0));
+
+        yield value;
+      }
+      case "mGet" -> keys(args[0]).stream()
+          .map(key -> {
+            Entry entry = live(key);
+
+            return !isNull(entry) && entry.value instanceof byte[] bytes ? bytes : null;
+          })
+          .toList();
+      case "set" -> {
+        if (args.length == 2) {
+          yield set(key(args[0]), (byte[]) args[1], SetOption.UPSERT, 0);
+        }
+
+        Expiration expiration = (Expiration) args[2];
+        Entry entry = live(key(args[0]));
+        long expireAt;
+
+        if (expiration.isKeepTtl()) {
+          expireAt = isNull(entry) ? 0 : entry.expireAt;
+        } else if (expiration.isPersistent()) {
+          expireAt = 0;
+        } else if (expiration.isUnixTimestamp()) {
+          expireAt = expiration.getExpirationTimeInMilliseconds();
+        } else {
+          expireAt = now + expiration.getExpirationTimeInMilliseconds();
+        }
+
+        yield set(key(args[0]), (byte[]) args[1], (SetOption) args[3], expireAt);
+      }
+      case "setNX" -> set(key(args[0]), (byte[]) args[1], SetOption.SET_IF_ABSENT, 0);
+      case "setEx" -> set(key(args[0]), (byte[]) args[2], SetOption.UPSERT,
+          now + TimeUnit.SECONDS.toMillis((long) args[1]));
+      case "pSetEx" -> set(key(args[0]), (byte[]) args[2], SetOption.UPSERT,
+          now + (long) args[1]);
+      case "mSet" -> {
+        ((Map<?, ?>) args[0]).forEach((key, value) ->
+            store.put(key(key), new Entry(((byte[]) value).clone(), 0)));
+
+        yield true;
+      }
+      case "incr" -> increment(key(args[0]), 1L);
+      case "incrBy" -> increment(key(args[0]), (Number) args[1]);
+      case "decr" -> increment(key(args[0]), -1L);
+      case "decrBy" -> increment(key(args[0]), -(long) args[1]);
+      default -> UNSUPPORTED;
+    };
+  }
+
+  /**
+   * hash 명령 실행
+   *
+   * @param method 명령
+   * @param args   명령 인수
+   * @return object
+   * @apiNote 지원하지 않는 명령은 {@link #UNSUPPORTED} 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private Object hashCommand(Method method, Object[] args) {
+    return switch (method.getName()) {
+      case "hSet", "hSetNX" -> {
+        Map<ByteBuffer, byte[]> hash = hash(key(args[0]));
+        ByteBuffer field = key(args[1]);
+
+        if (method.getName().equals("hSetNX") && hash.containsKey(field)) {
+          yield false;
+        }
+
+        yield isNull(hash.put(field, ((byte[]) args[2]).clone()));
+      }
+      case "hGet" -> hashValue(key(args[0])).get(key(args[1]));
+      case "hMGet" -> {
+        Map<ByteBuffer, byte[]> hash = hashValue(key(args[0]));
+
+        yield keys(args[1]).stream().map(hash::get).toList();
+      }
+      case "hMSet" -> {
+        Map<ByteBuffer, byte[]> hash = hash(key(args[0]));
+
+        ((Map<?, ?>) args[1]).forEach((field, value) ->
+            hash.put(key(field), ((byte[]) value).clone()));
+
+        yield null;
+      }
+      case "hGetAll" -> {
+        Map<byte[], byte[]> hash = new LinkedHashMap<>();
+
+        hashValue(key(args[0])).forEach((field, value) ->
+            hash.put(field.array().clone(), value.clone()));
+
+        yield hash;
+      }
+      case "hDel" -> {
+        Map<ByteBuffer, byte[]> hash = hashValue(key(args[0]));
+        long count = keys(args[1]).stream().filter(field -> !isNull(hash.remove(field))).count();
+
+        removeIfEmpty(key(args[0]), hash);
+
+        yield count;
+      }
+      case "hExists" -> hashValue(key(args[0])).containsKey(key(args[1]));
+      case "hLen" -> (long) hashValue(key(args[0])).size();
+      case "hKeys" -> {
+        Set<byte[]> fields = new LinkedHashSet<>();
+
+        hashValue(key(args[0])).keySet().forEach(field -> fields.add(field.array().clone()));
+
+        yield fields;
+      }
+      case "hVals" -> hashValue(key(args[0])).values().stream().map(byte[]::clone).toList();
+      case "hIncrBy" -> {
+        Map<ByteBuffer, byte[]> hash = hash(key(args[0]));
+        ByteBuffer field = key(args[1]);
+        Number result = add(hash.get(field), (Number) args[2]);
+
+        hash.put(field, string(result).getBytes(StandardCharsets.UTF_8));
+
+        yield result;
+      }
+      default -> UNSUPPORTED;
+    };
+  }
+
+  /**
+   * set 명령 실행
+   *
+   * @param method 명령
+   * @param args   명령 인수
+   * @return object
+   * @apiNote 지원하지 않는 명령은 {@link #UNSUPPORTED} 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private Object setCommand(Method method, Object[] args) {
+    return switch (method.getName()) {
+      case "sAdd" -> {
+        Set<ByteBuffer> members = members(key(args[0]));
+
+        yield keys(args[1]).stream().filter(members::add).count();
+      }
+      case "sRem" -> {
+        Set<ByteBuffer> members = membersValue(key(args[0]));
+        long count = keys(args[1]).stream().filter(members::remove).count();
+
+        removeIfEmpty(key(args[0]), members);
+
+        yield count;
+      }
+      case "sMembers" -> bytes(membersValue(key(args[0])));
+      case "sIsMember" -> membersValue(key(args[0])).contains(key(args[1]));
+      case "sCard" -> (long) membersValue(key(args[0])).size();
+      case "sInter", "sUnion", "sDiff" -> {
+        List<ByteBuffer> keys = keys(args[0]);
+        Set<ByteBuffer> result = new LinkedHashSet<>(membersValue(keys.get(0)));
+
+        for (ByteBuffer key : keys.subList(1, keys.size())) {
+          switch (method.getName()) {
+            case "sInter" -> result.retainAll(membersValue(key));
+            case "sUnion" -> result.addAll(membersValue(key));
+            default -> result.removeAll(membersValue(key));
+          }
+        }
+
+        yield bytes(result);
+      }
+      default -> UNSUPPORTED;
+    };
+  }
+
+  /**
+   * 만료되지 않은 저장 값 조회
+   *
+   * @param key key
+   * @return entry
+   * @apiNote 만료된 key 는 삭제하고 null 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private Entry live(ByteBuffer key) {
+    Entry entry = store.get(key);
+
+    if (!isNull(entry) && entry.expireAt != 0 && entry.expireAt <= System.currentTimeMillis()) {
+      store.remove(key);
+
+      return null;
+    }
+
+    return entry;
+  }
+
+  /**
+   * 저장 값 조회
+   *
+   * @param key  key
+   * @param type 값 유형
+   * @return value
+   * @apiNote 값이 없으면 null, 유형이 다르면 WRONGTYPE 예외
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private <T> T value(ByteBuffer key, Class<T> type) {
+    Entry entry = live(key);
+
+    if (isNull(entry)) {
+      return null;
+    }
+
+    if (!type.isInstance(entry.value)) {
+      throw new InvalidDataAccessApiUsageException(
+          "WRONGTYPE Operation against a key holding the wrong kind of value");
+    }
+
+    return type.cast(entry.value);
+  }
+
+  /**
+   * hash 조회
+   *
+   * @param key key
+   * @return map
+   * @apiNote 없으면 빈 hash 를 반환하고 저장하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  @SuppressWarnings("unchecked")
+  private Map<ByteBuffer, byte[]> hashValue(ByteBuffer key) {
+    Map<ByteBuffer, byte[]> hash = value(key, Map.class);
+
+    return isNull(hash) ? new LinkedHashMap<>() : hash;
+  }
+
+  /**
+   * hash 조회
+   *
+   * @param key key
+   * @return map
+   * @apiNote 없으면 빈 hash 를 생성해서 저장
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  @SuppressWarnings("unchecked")
+  private Map<ByteBuffer, byte[]> hash(ByteBuffer key) {
+    Map<ByteBuffer, byte[]> hash = value(key, Map.class);
+
+    if (isNull(hash)) {
+      hash = new LinkedHashMap<>();
+
+      store.put(key, new Entry(hash, 0));
+    }
+
+    return hash;
+  }
+
+  /**
+   * set 조회
+   *
+   * @param key key
+   * @return set
+   * @apiNote 없으면 빈 set 을 반환하고 저장하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  @SuppressWarnings("unchecked")
+  private Set<ByteBuffer> membersValue(ByteBuffer key) {
+    Set<ByteBuffer> members = value(key, Set.class);
+
+    return isNull(members) ? new LinkedHashSet<>() : members;
+  }
+
+  /**
+   * set 조회
+   *
+   * @param key key
+   * @return set
+   * @apiNote 없으면 빈 set 을 생성해서 저장
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  @SuppressWarnings("unchecked")
+  private Set<ByteBuffer> members(ByteBuffer key) {
+    Set<ByteBuffer> members = value(key, Set.class);
+
+    if (isNull(members)) {
+      members = new LinkedHashSet<>();
+
+      store.put(key, new Entry(members, 0));
+    }
+
+    return members;
+  }
+
+  /**
+   * 빈 hash, set 삭제
+   *
+   * @param key   key
+   * @param value hash 또는 set
+   * @apiNote Redis 와 같이 마지막 항목을 삭제하면 key 도 삭제
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private void removeIfEmpty(ByteBuffer key, Object value) {
+    boolean empty = value instanceof Map<?, ?> map ? map.isEmpty() : ((Set<?>) value).isEmpty();
+    Entry entry = store.get(key);
+
+    if (empty && !isNull(entry) && entry.value == value) {
+      store.remove(key);
+    }
+  }
+
+  /**
+   * string 저장
+   *
+   * @param key      key
+   * @param value    값
+   * @param option   저장 조건
+   * @param expireAt 만료 시각, 0 이면 만료 없음
+   * @return boolean
+   * @apiNote 저장 조건을 만족하지 않으면 false
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private boolean set(ByteBuffer key, byte[] value, SetOption option, long expireAt) {
+    boolean exists = !isNull(live(key));
+
+    if ((option == SetOption.SET_IF_ABSENT && exists)
+        || (option == SetOption.SET_IF_PRESENT && !exists)) {
+      return false;
+    }
+
+    store.put(key, new Entry(value.clone(), expireAt));
+
+    return true;
+  }
+
+  /**
+   * 만료 시각 설정
+   *
+   * @param key      key
+   * @param expireAt 만료 시각, 0 이면 만료 없음
+   * @return boolean
+   * @apiNote key 가 없으면 false
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private boolean expire(ByteBuffer key, long expireAt) {
+    Entry entry = live(key);
+
+    if (isNull(entry)) {
+      return false;
+    }
+
+    entry.expireAt = expireAt;
+
+    return true;
+  }
+
+  /**
+   * 숫자 증가
+   *
+   * @param key   key
+   * @param delta 증가 값
+   * @return number
+   * @apiNote 값이 없으면 0 에서 증가
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private Number increment(ByteBuffer key, Number delta) {
+    Entry entry = live(key);
+    Number result = add(value(key, byte[].class), delta);
+
+    store.put(key, new Entry(string(result).getBytes(StandardCharsets.UTF_8),
+        isNull(entry) ? 0 : entry.expireAt));
+
+    return result;
+  }
+
+  /**
+   * 숫자 더하기
+   *
+   * @param value 저장 값
+   * @param delta 증가 값
+   * @return number
+   * @apiNote 증가 값이 {@link Double} 이면 {@link Double}, 아니면 {@link Long}
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static Number add(byte[] value, Number delta) {
+    String current = isNull(value) ? "0" : string(value);
+
+    try {
+      if (delta instanceof Double) {
+        return Double.parseDouble(current) + delta.doubleValue();
+      }
+
+      return Math.addExact(Long.parseLong(current), delta.longValue());
+    } catch (NumberFormatException | ArithmeticException e) {
+      throw new InvalidDataAccessApiUsageException("ERR value is not a valid number", e);
+    }
+  }
+
+  /**
+   * 값 유형 조회
+   *
+   * @param entry 저장 값
+   * @return data type
+   * @apiNote 값이 없으면 {@link DataType#NONE}
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static DataType type(Entry entry) {
+    if (isNull(entry)) {
+      return DataType.NONE;
+    }
+
+    if (entry.value instanceof Map) {
+      return DataType.HASH;
+    }
+
+    return entry.value instanceof Set ? DataType.SET : DataType.STRING;
+  }
+
+  /**
+   * key 변환
+   *
+   * @param key byte [ ]
+   * @return byte buffer
+   * @apiNote 내용으로 비교할 수 있도록 복사본을 {@link ByteBuffer} 로 감싼다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static ByteBuffer key(Object key) {
+    return ByteBuffer.wrap(((byte[]) key).clone());
+  }
+
+  /**
+   * key 목록 변환
+   *
+   * @param keys byte [ ] 또는 byte [ ] [ ]
+   * @return list
+   * @apiNote 가변 인수와 단일 인수를 같은 목록으로 변환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static List<ByteBuffer> keys(Object keys) {
+    if (keys instanceof byte[][] array) {
+      return Arrays.stream(array).map(InMemoryRedisConnectionFactory::key).toList();
+    }
+
+    return List.of(key(keys));
+  }
+
+  /**
+   * set 변환
+   *
+   * @param members set
+   * @return set
+   * @apiNote {@link ByteBuffer} set 을 byte [ ] set 으로 변환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static Set<byte[]> bytes(Set<ByteBuffer> members) {
+    Set<byte[]> result = new LinkedHashSet<>();
+
+    members.forEach(member -> result.add(member.array().clone()));
+
+    return result;
+  }
+
+  /**
+   * 문자열 변환
+   *
+   * @param value byte [ ] 또는 숫자
+   * @return string
+   * @apiNote UTF-8
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static String string(Object value) {
+    return value instanceof byte[] bytes
+        ? new String(bytes, StandardCharsets.UTF_8)
+        : String.valueOf(value);
+  }
+
+  /**
+   * key 검색 pattern 변환
+   *
+   * @param glob Redis glob pattern
+   * @return pattern
+   * @apiNote {@code *}, {@code ?}, {@code [...]}, {@code \} 지원
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static Pattern glob(String glob) {
+    StringBuilder regex = new StringBuilder();
+    boolean escape = false;
+    boolean bracket = false;
+
+    for (char c : glob.toCharArray()) {
+      if (escape) {
+        regex.append(Pattern.quote(String.valueOf(c)));
+        escape = false;
+      } else if (c == '\\') {
+        escape = true;
+      } else if (bracket) {
+        regex.append(c == '^' || c == '[' ? "\\" + c : String.valueOf(c));
+        bracket = c != ']';
+      } else if (c == '[') {
+        regex.append('[');
+        bracket = true;
+      } else if (c == '*') {
+        regex.append(".*");
+      } else if (c == '?') {
+        regex.append('.');
+      } else {
+        regex.append(Pattern.quote(String.valueOf(c)));
+      }
+    }
+
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+
+  /**
+   * 저장 값
+   *
+   * @author FreshR
+   * @apiNote byte [ ], hash, set 과 만료 시각
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private static class Entry {
+
+    private final Object value;
+    private long expireAt;
+
+    private Entry(Object value, long expireAt) {
+      this.value = value;
+      this.expireAt = expireAt;
+    }
+
+  }
+
+  /**
+   * 연결
+   *
+   * @author FreshR
+   * @apiNote {@link RedisConnection} 과 명령 interface 를 하나의 proxy 로 구현<br>
+   *          {@code keyCommands()} 등은 같은 proxy 를 반환하고
+   *          {@link DefaultedRedisConnection} 의 위임 메소드는 직접 실행한다.
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  private class ConnectionHandler implements InvocationHandler {
+
+    private boolean closed = false;
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+
+      if (method.getDeclaringClass() == Object.class) {
+        return switch (name) {
+          case "equals" -> proxy == args[0];
+          case "hashCode" -> System.identityHashCode(proxy);
+          default -> "InMemoryRedisConnection";
+        };
+      }
+
+      if (method.getParameterCount() == 0 && method.getReturnType().isInstance(proxy)) {
+        return proxy; // keyCommands(), stringCommands() ...
+      }
+
+      switch (name) {
+        case "close" -> {
+          closed = true;
+
+          return null;
+        }
+        case "isClosed" -> {
+          return closed;
+        }
+        case "getNativeConnection" -> {
+          return store;
+        }
+        case "isQueueing", "isPipelined", "isSubscribed" -> {
+          return false;
+        }
+        case "getSubscription", "select", "unwatch", "setConfig" -> {
+          return null;
+        }
+        case "multi", "discard", "watch", "exec", "publish" -> {
+          throw new UnsupportedOperationException("In-memory Redis does not support " + name);
+        }
+        case "ping" -> {
+          return "PONG";
+        }
+        case "echo" -> {
+          return args[0];
+        }
+        case "getConfig" -> {
+          return new Properties();
+        }
+        default -> {
+        }
+      }
+
+      Object result = command(method, isNull(args) ? new Object[0] : args);
+
+      if (result != UNSUPPORTED) {
+        return result;
+      }
+
+      if (method.isDefault() && method.getDeclaringClass() != DefaultedRedisConnection.class) {
+        return InvocationHandler.invokeDefault(proxy, method, args);
+      }
+
+      throw new UnsupportedOperationException("In-memory Redis does not support " + name);
+    }
+
+  }
+
+}
@@ -0,0 +1,190 @@
+package run.freshr.common.configurations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.TimeToLive;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * {@link InMemoryRedisConnectionFactory} 확인
+ *
+ * @author FreshR
+ * @apiNote RedisTemplate 의 string, hash, set 명령과 만료 시간,
+ *          {@link RedisHash} repository 저장 & 조회 & 삭제 확인
+ * @since 2026. 10. 18. 오후 6:02:45
+ */
+class InMemoryRedisConnectionFactoryTests {
+
+  private final InMemoryRedisConnectionFactory connectionFactory =
+      new InMemoryRedisConnectionFactory();
+
+  private StringRedisTemplate redisTemplate;
+
+  @BeforeEach
+  void beforeEach() {
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  @Test
+  void valueOperations() {
+    ValueOperations<String, String> operations = redisTemplate.opsForValue();
+
+    operations.set("access", "token", Duration.ofMinutes(1));
+    operations.set("refresh", "token");
+
+    assertThat(operations.get("access")).isEqualTo("token");
+    assertThat(operations.setIfAbsent("access", "other")).isFalse();
+    assertThat(operations.increment("count")).isEqualTo(1L);
+    assertThat(operations.increment("count", 2)).isEqualTo(3L);
+    assertThat(redisTemplate.getExpire("access")).isBetween(1L, 60L);
+    assertThat(redisTemplate.getExpire("access", TimeUnit.MILLISECONDS)).isBetween(1L, 60_000L);
+    assertThat(redisTemplate.getExpire("refresh")).isEqualTo(-1L);
+    assertThat(redisTemplate.getExpire("missing")).isEqualTo(-2L);
+
+    assertThat(redisTemplate.expire("refresh", Duration.ofSeconds(30))).isTrue();
+    assertThat(redisTemplate.getExpire("refresh")).isBetween(1L, 30L);
+    assertThat(redisTemplate.persist("refresh")).isTrue();
+    assertThat(redisTemplate.getExpire("refresh")).isEqualTo(-1L);
+  }
+
+  @Test
+  void expiredKey() {
+    ValueOperations<String, String> operations = redisTemplate.opsForValue();
+
+    operations.set("access", "token");
+    redisTemplate.expireAt("access", Instant.now().minusSeconds(1));
+
+    assertThat(operations.get("access")).isNull();
+    assertThat(redisTemplate.hasKey("access")).isFalse();
+    assertThat(redisTemplate.getExpire("access")).isEqualTo(-2L);
+  }
+
+  @Test
+  void hashOperations() {
+    HashOperations<String, String, String> operations = redisTemplate.opsForHash();
+
+    operations.put("auth", "id", "user");
+    operations.putAll("auth", Map.of("role", "ROLE_USER", "access", "token"));
+
+    assertThat(operations.get("auth", "role")).isEqualTo("ROLE_USER");
+    assertThat(operations.entries("auth"))
+        .containsOnly(Map.entry("id", "user"), Map.entry("role", "ROLE_USER"),
+            Map.entry("access", "token"));
+    assertThat(operations.hasKey("auth", "access")).isTrue();
+    assertThat(operations.delete("auth", "access")).isEqualTo(1L);
+    assertThat(operations.size("auth")).isEqualTo(2L);
+    assertThat(operations.increment("auth", "count", 2)).isEqualTo(2L);
+
+    redisTemplate.expire("auth", Duration.ofMinutes(1));
+
+    assertThat(redisTemplate.getExpire("auth")).isBetween(1L, 60L);
+
+    redisTemplate.expireAt("auth", Instant.now().minusSeconds(1));
+
+    assertThat(operations.entries("auth")).isEmpty();
+  }
+
+  @Test
+  void setOperations() {
+    SetOperations<String, String> operations = redisTemplate.opsForSet();
+
+    assertThat(operations.add("roles", "ROLE_USER", "ROLE_MANAGER", "ROLE_USER")).isEqualTo(2L);
+    assertThat(operations.add("privileges", "ROLE_USER")).isEqualTo(1L);
+    assertThat(operations.members("roles")).containsExactlyInAnyOrder("ROLE_USER", "ROLE_MANAGER");
+    assertThat(operations.isMember("roles", "ROLE_MANAGER")).isTrue();
+    assertThat(operations.intersect("roles", "privileges")).containsExactly("ROLE_USER");
+    assertThat(operations.remove("roles", "ROLE_MANAGER")).isEqualTo(1L);
+    assertThat(operations.size("roles")).isEqualTo(1L);
+
+    redisTemplate.expire("roles", Duration.ofMinutes(1));
+
+    assertThat(redisTemplate.getExpire("roles")).isBetween(1L, 60L);
+    assertThat(redisTemplate.delete("roles")).isTrue();
+    assertThat(operations.members("roles")).isEmpty();
+  }
+
+  @Test
+  void redisHashRepository() throws Exception {
+    RedisMappingContext mappingContext = new RedisMappingContext();
+    RedisKeyValueAdapter adapter = new RedisKeyValueAdapter(redisTemplate, mappingContext);
+
+    adapter.afterPropertiesSet();
+
+    try {
+      SampleRepository repository = new RedisRepositoryFactory(
+          new RedisKeyValueTemplate(adapter, mappingContext))
+          .getRepository(SampleRepository.class);
+
+      repository.save(new Sample("1", "user", 60L));
+      repository.save(new Sample("2", "manager", 60L));
+
+      assertThat(repository.findById("1")).get()
+          .extracting(sample -> sample.name).isEqualTo("user");
+      assertThat(repository.count()).isEqualTo(2L);
+      assertThat(redisTemplate.getExpire("sample:1")).isBetween(1L, 60L);
+
+      repository.deleteById("1");
+
+      assertThat(repository.findById("1")).isEmpty();
+      assertThat(repository.existsById("2")).isTrue();
+      assertThat(repository.count()).isEqualTo(1L);
+    } finally {
+      adapter.destroy();
+    }
+  }
+
+  /**
+   * Redis 저장 entity
+   *
+   * @author FreshR
+   * @apiNote 만료 시간을 가진 {@link RedisHash} entity
+   * @since 2026. 10. 18. 오후 6:02:45
+   */
+  @RedisHash("sample")
+  static class Sample {
+
+    @Id
+    private String id;
+    private String name;
+    @TimeToLive
+    private Long ttl;
+
+    Sample() {
+    }
+
+    Sample(String id, String name, Long ttl) {
+      this.id = id;
+      this.name = name;
+      this.ttl = ttl;
+    }
+
+  }
+
+  /**
+   * Redis repository
+   *
+   * @author FreshR
+   * @apiNote {@link Sample} 저장 & 조회 & 삭제
+   * @since 2026. 10. 18. 오후 6:02:45
+   */
+  interface SampleRepository extends CrudRepository<Sample, String> {
+
+  }
+
+}
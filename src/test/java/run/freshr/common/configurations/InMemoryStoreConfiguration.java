@@ -0,0 +1,54 @@
+package run.freshr.common.configurations;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+
+/**
+ * 메모리 저장소 설정
+ *
+ * @author FreshR
+ * @apiNote Redis, Elasticsearch 서버 대신 메모리 저장소를 bean 으로 등록<br>
+ *          {@link run.freshr.common.extensions.AutoConfigureInMemoryStores} 로 읽는다.<br>
+ *          Redis 는 {@link Primary} 로 등록해서 Lettuce 연결 설정을 대신하고
+ *          Elasticsearch 는 repository 가 참조하는 {@value #ELASTICSEARCH_TEMPLATE} 이름으로 등록해서
+ *          기본 template 생성을 막는다.
+ * @since 2026. 10. 17. 오후 10:12:31
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class InMemoryStoreConfiguration {
+
+  static final String ELASTICSEARCH_TEMPLATE = "elasticsearchTemplate";
+
+  /**
+   * 메모리 Redis 연결 설정
+   *
+   * @return in memory redis connection factory
+   * @apiNote RedisTemplate 과 Redis repository 가 사용
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  @Bean
+  @Primary
+  public InMemoryRedisConnectionFactory inMemoryRedisConnectionFactory() {
+    return new InMemoryRedisConnectionFactory();
+  }
+
+  /**
+   * 메모리 Elasticsearch 설정
+   *
+   * @param elasticsearchConverter elasticsearch converter
+   * @return in memory elasticsearch template
+   * @apiNote ElasticsearchOperations 와 Elasticsearch repository 가 사용
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:12:31
+   */
+  @Bean(name = ELASTICSEARCH_TEMPLATE)
+  @Primary
+  public InMemoryElasticsearchTemplate elasticsearchTemplate(
+      ElasticsearchConverter elasticsearchConverter) {
+    return new InMemoryElasticsearchTemplate(elasticsearchConverter);
+  }
+
+}
@@ -0,0 +1,158 @@
+package run.freshr.common.docs;
+
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.operation.preprocess.ContentModifier;
+
+/**
+ * JSON 배열 요소 생략 기능
+ *
+ * @author FreshR
+ * @apiNote JSON 배열의 요소를 앞에서부터 설정한 수만 남기고 나머지는 생략<br>
+ *          생략 표시처럼 다른 유형의 요소를 추가하지 않으므로 {@code data[].id} 같은 field 문서와
+ *          resource 의 예시, schema 가 그대로 유지된다.<br>
+ *          body 전체를 객체로 읽지 않고 token 단위로 복사한다.<br>
+ *          JSON 이 아니거나 생략할 요소가 없는 경우 원본을 그대로 반환한다.
+ * @since 2026. 10. 17. 오후 6:52:03
+ */
+public class ArrayTruncatingContentModifier implements ContentModifier {
+
+  /**
+   * JSON factory
+   *
+   * @apiNote JSON factory
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  /**
+   * 배열 최대 요소 수
+   *
+   * @apiNote 배열 최대 요소 수
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  private final int maxElements;
+
+  /**
+   * 생성자
+   *
+   * @param maxElements 배열 최대 요소 수
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  public ArrayTruncatingContentModifier(int maxElements) {
+    this.maxElements = maxElements;
+  }
+
+  @Override
+  public byte[] modifyContent(byte[] originalContent, MediaType contentType) {
+    if (originalContent.length == 0 || !isJson(contentType)) {
+      return originalContent;
+    }
+
+    try {
+      return truncate(originalContent);
+    } catch (IOException e) {
+      return originalContent;
+    }
+  }
+
+  /**
+   * 배열 요소 생략
+   *
+   * @param originalContent 원본 body
+   * @return byte [ ]
+   * @throws IOException io exception
+   * @apiNote 최대 요소 수를 넘는 배열 요소를 건너뛴다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  private byte[] truncate(byte[] originalContent) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(originalContent.length);
+    Deque<Container> containerStack = new ArrayDeque<>();
+    boolean truncated = false;
+
+    try (JsonParser parser = JSON_FACTORY.createParser(originalContent);
+        JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+      JsonToken token;
+
+      while (!isNull(token = parser.nextToken())) {
+        Container container = containerStack.peek();
+
+        if (!isNull(container) && container.array && token != JsonToken.END_ARRAY
+            && ++container.count > maxElements) { // 최대 요소 수를 넘는 요소
+          parser.skipChildren();
+          truncated = true;
+
+          continue;
+        }
+
+        switch (token) {
+          case START_ARRAY -> {
+            containerStack.push(new Container(true));
+            generator.writeStartArray();
+          }
+          case START_OBJECT -> {
+            containerStack.push(new Container(false));
+            generator.writeStartObject();
+          }
+          case END_ARRAY -> {
+            containerStack.pop();
+            generator.writeEndArray();
+          }
+          case END_OBJECT -> {
+            containerStack.pop();
+            generator.writeEndObject();
+          }
+          default -> generator.copyCurrentEvent(parser);
+        }
+      }
+    }
+
+    return truncated ? outputStream.toByteArray() : originalContent;
+  }
+
+  /**
+   * JSON 여부
+   *
+   * @param contentType content type
+   * @return boolean
+   * @apiNote application/json 또는 +json 유형인지 확인
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  private boolean isJson(MediaType contentType) {
+    return !isNull(contentType)
+        && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+        || contentType.getSubtype().endsWith("+json"));
+  }
+
+  /**
+   * JSON 객체 & 배열
+   *
+   * @author FreshR
+   * @apiNote 현재 복사 중인 JSON 객체 & 배열의 요소 수
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  private static class Container {
+
+    private final boolean array;
+    private int count;
+
+    private Container(boolean array) {
+      this.array = array;
+    }
+
+  }
+
+}
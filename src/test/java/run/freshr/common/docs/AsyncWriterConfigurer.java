@@ -0,0 +1,76 @@
+package run.freshr.common.docs;
+
+import static java.util.Objects.isNull;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.springframework.restdocs.snippet.WriterResolver;
+import org.springframework.restdocs.templates.TemplateFormat;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.ConfigurableMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcConfigurer;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * 비동기 snippet 작성 설정
+ *
+ * @author FreshR
+ * @apiNote 설정한 snippet encoding 과 형식으로 {@link AsyncWriterResolver} 를 생성해서 snippet 작성 기능을 교체<br>
+ *          RestDocs 설정을 요청에 기록한 뒤 실행해야 하므로 RestDocs 설정 다음에 적용한다.<br>
+ *          RestDocs 설정에서 encoding 이나 형식을 바꾼 경우 같은 값으로 생성한다.
+ * @since 2026. 10. 18. 오전 2:52:18
+ */
+public class AsyncWriterConfigurer implements MockMvcConfigurer {
+
+  private static final String ATTRIBUTE_NAME_CONFIGURATION =
+      "org.springframework.restdocs.configuration"; // MockMvc 의 RestDocs 설정 attribute
+
+  private final Charset encoding;
+  private final TemplateFormat templateFormat;
+
+  /**
+   * 생성자
+   *
+   * @apiNote RestDocs 기본 설정과 같은 UTF-8, Asciidoctor 형식으로 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 2:52:18
+   */
+  public AsyncWriterConfigurer() {
+    this(StandardCharsets.UTF_8, TemplateFormats.asciidoctor());
+  }
+
+  /**
+   * 생성자
+   *
+   * @param encoding       snippet encoding
+   * @param templateFormat snippet 형식
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 3:40:26
+   */
+  public AsyncWriterConfigurer(Charset encoding, TemplateFormat templateFormat) {
+    this.encoding = encoding;
+    this.templateFormat = templateFormat;
+  }
+
+  @Override
+  public RequestPostProcessor beforeMockMvcCreated(ConfigurableMockMvcBuilder<?> builder,
+      WebApplicationContext context) {
+    AsyncWriterResolver writerResolver = new AsyncWriterResolver(encoding, templateFormat);
+
+    return request -> {
+      @SuppressWarnings("unchecked")
+      Map<String, Object> configuration = (Map<String, Object>) request
+          .getAttribute(ATTRIBUTE_NAME_CONFIGURATION);
+
+      if (!isNull(configuration)) {
+        configuration.put(WriterResolver.class.getName(), writerResolver);
+      }
+
+      return request;
+    };
+  }
+
+}
@@ -0,0 +1,199 @@
+package run.freshr.common.docs;
+
+import static java.util.Objects.isNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.snippet.PlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.WriterResolver;
+import org.springframework.restdocs.templates.TemplateFormat;
+import org.springframework.util.PropertyPlaceholderHelper;
+import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
+
+/**
+ * 비동기 snippet 작성 기능
+ *
+ * @author FreshR
+ * @apiNote snippet 을 메모리에 작성하고 파일 저장은 background thread 하나에서 순서대로 처리<br>
+ *          테스트 thread 는 파일 I/O 를 기다리지 않는다.<br>
+ *          {@link #flush()} 는 남은 snippet 을 모두 저장할 때까지 기다린다.<br>
+ *          build 결과물이므로 파일마다 디스크 반영(fsync)은 하지 않고 파일을 닫는 것으로 끝낸다.<br>
+ *          파일 경로 규칙은 RestDocs 의 {@code StandardWriterResolver} 와 같다.<br>
+ *          encoding 과 형식은 {@link AsyncWriterConfigurer} 에 설정한 값을 사용한다.
+ * @since 2026. 10. 17. 오후 7:20:14
+ */
+public class AsyncWriterResolver implements WriterResolver {
+
+  /**
+   * 파일 저장 thread
+   *
+   * @apiNote JVM 전체에서 하나의 thread 로 순서대로 저장
+   * @since 2026. 10. 17. 오후 7:20:14
+   */
+  private static final ExecutorService EXECUTOR = createExecutor();
+  /**
+   * 저장 실패 정보
+   *
+   * @apiNote 처음 실패한 정보만 보관하고 {@link #flush()} 에서 던진다.
+   * @since 2026. 10. 17. 오후 7:20:14
+   */
+  private static final AtomicReference<IOException> FAILURE = new AtomicReference<>();
+
+  private final PlaceholderResolverFactory placeholderResolverFactory =
+      new RestDocumentationContextPlaceholderResolverFactory();
+  private final PropertyPlaceholderHelper propertyPlaceholderHelper =
+      new PropertyPlaceholderHelper("{", "}");
+
+  private final Charset encoding;
+  private final TemplateFormat templateFormat;
+
+  /**
+   * 생성자
+   *
+   * @param encoding       snippet encoding
+   * @param templateFormat snippet 형식
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:20:14
+   */
+  public AsyncWriterResolver(Charset encoding, TemplateFormat templateFormat) {
+    this.encoding = encoding;
+    this.templateFormat = templateFormat;
+  }
+
+  @Override
+  public Writer resolve(String operationName, String snippetName,
+      RestDocumentationContext context) {
+    PlaceholderResolver placeholderResolver = placeholderResolverFactory.create(context);
+    File outputDirectory = new File(
+        propertyPlaceholderHelper.replacePlaceholders(operationName, placeholderResolver));
+    File outputFile = new File(outputDirectory,
+        propertyPlaceholderHelper.replacePlaceholders(snippetName, placeholderResolver)
+            + "." + templateFormat.getFileExtension());
+
+    if (!outputFile.isAbsolute() && !isNull(context.getOutputDirectory())) {
+      outputFile = new File(context.getOutputDirectory(), outputFile.getPath());
+    }
+
+    return new SnippetWriter(outputFile.toPath(), encoding);
+  }
+
+  /**
+   * 저장 대기 중인 snippet 저장
+   *
+   * @throws IOException 저장에 실패한 snippet 이 있는 경우
+   * @apiNote 남은 snippet 을 모두 저장할 때까지 기다린다.<br>
+   *          테스트 실행이 끝날 때 한 번 호출
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:20:14
+   */
+  public static void flush() throws IOException {
+    try {
+      EXECUTOR.submit(() -> {
+      }).get(); // 앞에 넘긴 저장 작업이 모두 끝날 때까지 대기
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      throw new IOException("Interrupted while flushing snippets", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to flush snippets", e.getCause());
+    }
+
+    IOException failure = FAILURE.getAndSet(null);
+
+    if (!isNull(failure)) {
+      throw failure;
+    }
+  }
+
+  /**
+   * snippet 저장
+   *
+   * @param path    파일 경로
+   * @param content snippet 내용
+   * @apiNote 파일 저장 thread 에서 실행
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:20:14
+   */
+  private static void save(Path path, byte[] content) {
+    try {
+      Files.createDirectories(path.getParent());
+      Files.write(path, content);
+    } catch (IOException e) {
+      FAILURE.compareAndSet(null, e);
+    }
+  }
+
+  /**
+   * 파일 저장 thread 생성
+   *
+   * @return executor service
+   * @apiNote daemon thread 로 생성하고 JVM 종료 전에 남은 snippet 을 저장
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:20:14
+   */
+  private static ExecutorService createExecutor() {
+    ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "freshr-snippet-writer");
+
+      thread.setDaemon(true);
+
+      return thread;
+    });
+
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      try {
+        flush();
+      } catch (IOException ignored) {
+        // JVM 종료 중에는 알릴 곳이 없음
+      }
+    }));
+
+    return executor;
+  }
+
+  /**
+   * snippet 작성 기능
+   *
+   * @author FreshR
+   * @apiNote 메모리에 작성하고 close 할 때 파일 저장 thread 에 넘긴다.
+   * @since 2026. 10. 17. 오후 7:20:14
+   */
+  private static class SnippetWriter extends StringWriter {
+
+    private final Path path;
+    private final Charset encoding;
+    private boolean closed;
+
+    private SnippetWriter(Path path, Charset encoding) {
+      this.path = path;
+      this.encoding = encoding;
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+
+      closed = true;
+
+      byte[] content = toString().getBytes(encoding);
+
+      EXECUTOR.execute(() -> save(path, content));
+    }
+
+  }
+
+}
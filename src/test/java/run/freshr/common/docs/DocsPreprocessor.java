@@ -0,0 +1,139 @@
+package run.freshr.common.docs;
+
+import static java.util.Objects.isNull;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.prettyPrint;
+
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.preprocess.ContentModifyingOperationPreprocessor;
+import org.springframework.restdocs.operation.preprocess.OperationPreprocessor;
+
+/**
+ * 문서 전처리 기능
+ *
+ * @author FreshR
+ * @apiNote 요청 & 응답 body 를 문서에 작성하기 전 처리<br>
+ *          배열 최대 요소 수가 0 보다 크면 넘는 요소를 생략하고,
+ *          body 크기가 pretty print 최대 크기 이하인 경우에만 pretty print 를 적용한다.<br>
+ *          pretty print 최대 크기가 0 보다 작으면 pretty print 를 적용하지 않는다.
+ * @since 2026. 10. 17. 오후 6:52:03
+ */
+public class DocsPreprocessor implements OperationPreprocessor {
+
+  /**
+   * pretty print 최대 크기 기본값
+   *
+   * @apiNote 1MB
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  public static final int DEFAULT_MAX_PRETTY_PRINT_SIZE = 1024 * 1024;
+  /**
+   * 배열 최대 요소 수 기본값
+   *
+   * @apiNote 0 인 경우 생략하지 않음
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  public static final int DEFAULT_MAX_ARRAY_ELEMENTS = 0;
+
+  /**
+   * pretty print 기능
+   *
+   * @apiNote RestDocs 기본 pretty print 기능
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  private static final OperationPreprocessor PRETTY_PRINT = prettyPrint();
+
+  /**
+   * pretty print 최대 크기
+   *
+   * @apiNote byte 단위
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  private final int maxPrettyPrintSize;
+  /**
+   * 배열 최대 요소 수
+   *
+   * @apiNote 0 이하인 경우 생략하지 않음
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  private final int maxArrayElements;
+  /**
+   * 배열 요소 생략 기능
+   *
+   * @apiNote 배열 최대 요소 수가 0 이하인 경우 null
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  private final OperationPreprocessor truncate;
+
+  /**
+   * 생성자
+   *
+   * @param maxPrettyPrintSize pretty print 최대 크기
+   * @param maxArrayElements   배열 최대 요소 수
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  public DocsPreprocessor(int maxPrettyPrintSize, int maxArrayElements) {
+    this.maxPrettyPrintSize = maxPrettyPrintSize;
+    this.maxArrayElements = maxArrayElements;
+    this.truncate = maxArrayElements > 0
+        ? new ContentModifyingOperationPreprocessor(
+        new ArrayTruncatingContentModifier(maxArrayElements))
+        : null;
+  }
+
+  /**
+   * 기본 설정 전처리 기능 생성
+   *
+   * @return docs preprocessor
+   * @apiNote 1MB 이하만 pretty print, 배열 요소는 생략하지 않음
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  public static DocsPreprocessor defaults() {
+    return new DocsPreprocessor(DEFAULT_MAX_PRETTY_PRINT_SIZE, DEFAULT_MAX_ARRAY_ELEMENTS);
+  }
+
+  @Override
+  public OperationRequest preprocess(OperationRequest request) {
+    OperationRequest result = isNull(truncate) ? request : truncate.preprocess(request);
+
+    return isPrettyPrint(result.getContent()) ? PRETTY_PRINT.preprocess(result) : result;
+  }
+
+  @Override
+  public OperationResponse preprocess(OperationResponse response) {
+    OperationResponse result = isNull(truncate) ? response : truncate.preprocess(response);
+
+    return isPrettyPrint(result.getContent()) ? PRETTY_PRINT.preprocess(result) : result;
+  }
+
+  /**
+   * 설정 정보
+   *
+   * @return string
+   * @apiNote 설정이 같으면 같은 문자열. snippet fingerprint 에 사용
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  @Override
+  public String toString() {
+    return "DocsPreprocessor[maxPrettyPrintSize=" + maxPrettyPrintSize
+        + ", maxArrayElements=" + maxArrayElements + "]";
+  }
+
+  /**
+   * pretty print 적용 여부
+   *
+   * @param content body
+   * @return boolean
+   * @apiNote body 가 있고 pretty print 최대 크기 이하인 경우 TRUE
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 6:52:03
+   */
+  private boolean isPrettyPrint(byte[] content) {
+    return content.length > 0 && content.length <= maxPrettyPrintSize;
+  }
+
+}
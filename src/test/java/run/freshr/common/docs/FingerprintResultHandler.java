@@ -0,0 +1,96 @@
+package run.freshr.common.docs;
+
+import static java.util.Objects.isNull;
+
+import java.util.Map;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.snippet.PlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultHandler;
+import org.springframework.util.PropertyPlaceholderHelper;
+
+/**
+ * 변경된 문서만 작성하는 기능
+ *
+ * @author FreshR
+ * @apiNote {@link SnippetFingerprintStore} 의 fingerprint 가 같으면 문서 작성을 생략<br>
+ *          생략한 경우 문서 구성 요소의 검증도 실행하지 않지만 검증하는 값이 모두 fingerprint 에 포함되므로
+ *          이전에 통과한 요청 & 응답에서만 생략한다.<br>
+ *          fingerprint 를 계산할 수 없으면 항상 작성한다.
+ * @since 2026. 10. 17. 오후 8:21:45
+ */
+public class FingerprintResultHandler implements ResultHandler {
+
+  static final String ATTRIBUTE_NAME_CONFIGURATION =
+      "org.springframework.restdocs.configuration"; // MockMvc 의 RestDocs 설정 attribute
+  private static final PlaceholderResolverFactory PLACEHOLDER_RESOLVER_FACTORY =
+      new RestDocumentationContextPlaceholderResolverFactory();
+  private static final PropertyPlaceholderHelper PLACEHOLDER_HELPER =
+      new PropertyPlaceholderHelper("{", "}");
+
+  private final ResultHandler delegate;
+  private final String documentPath;
+  private final Object snippets;
+  private final Object preprocessor;
+
+  /**
+   * 생성자
+   *
+   * @param delegate     문서 작성 기능
+   * @param documentPath 문서 경로
+   * @param snippets     문서 구성 요소
+   * @param preprocessor 전처리 설정
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  public FingerprintResultHandler(ResultHandler delegate, String documentPath, Object snippets,
+      Object preprocessor) {
+    this.delegate = delegate;
+    this.documentPath = documentPath;
+    this.snippets = snippets;
+    this.preprocessor = preprocessor;
+  }
+
+  @Override
+  public void handle(MvcResult result) throws Exception {
+    RestDocumentationContext context = getContext(result);
+    String fingerprint = SnippetFingerprintStore.fingerprint(result, snippets, preprocessor);
+
+    if (isNull(context) || isNull(context.getOutputDirectory()) || isNull(fingerprint)) {
+      delegate.handle(result);
+
+      return;
+    }
+
+    SnippetFingerprintStore store = SnippetFingerprintStore.of(context.getOutputDirectory());
+    String key = PLACEHOLDER_HELPER.replacePlaceholders(documentPath,
+        PLACEHOLDER_RESOLVER_FACTORY.create(context));
+
+    if (!store.isChanged(key, fingerprint)) {
+      return;
+    }
+
+    delegate.handle(result);
+    store.put(key, fingerprint);
+  }
+
+  /**
+   * 문서 정보 조회
+   *
+   * @param result 요청 & 응답 정보
+   * @return rest documentation context
+   * @apiNote MockMvc 에 RestDocs 를 설정하지 않은 경우 null
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  private RestDocumentationContext getContext(MvcResult result) {
+    Object configuration = result.getRequest().getAttribute(ATTRIBUTE_NAME_CONFIGURATION);
+
+    return configuration instanceof Map<?, ?> map
+        ? (RestDocumentationContext) map.get(RestDocumentationContext.class.getName())
+        : null;
+  }
+
+}
@@ -0,0 +1,251 @@
+package run.freshr.common.docs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.snippet.Attributes.key;
+
+import jakarta.servlet.http.Cookie;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
+import org.springframework.restdocs.ManualRestDocumentation;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * {@link FingerprintResultHandler} 확인
+ *
+ * @author FreshR
+ * @apiNote 요청 & 응답과 문서 구성 요소가 같으면 문서 작성을 생략하고, snippet 에 남는 값이 바뀌면 다시 작성하는지 확인
+ * @since 2026. 10. 18. 오후 4:48:20
+ */
+class FingerprintResultHandlerTests {
+
+  private static final String DOCUMENT_PATH = "sample";
+
+  @TempDir
+  Path directory;
+
+  private RestDocumentationContext context;
+  private int written;
+
+  @BeforeEach
+  void beforeEach() {
+    ManualRestDocumentation restDocumentation = new ManualRestDocumentation(
+        directory.toString());
+
+    restDocumentation.beforeTest(getClass(), "sample");
+    context = restDocumentation.beforeOperation();
+  }
+
+  @Test
+  void skipUnchanged() throws Exception {
+    document(result(request -> {
+    }, response -> {
+    }), "snippets");
+    document(result(request -> {
+    }, response -> {
+    }), "snippets");
+
+    assertThat(written).isEqualTo(1);
+  }
+
+  @Test
+  void rewriteChangedResponseHeader() throws Exception {
+    document(result(request -> {
+    }, response -> response.setHeader("Location", "/api/samples/1")), "snippets");
+    document(result(request -> {
+    }, response -> response.setHeader("Location", "/api/samples/2")), "snippets");
+    document(result(request -> {
+    }, response -> {
+    }), "snippets"); // header 를 지운 응답은 검증하도록 다시 작성
+
+    assertThat(written).isEqualTo(3);
+  }
+
+  @Test
+  void rewriteChangedCookie() throws Exception {
+    document(result(request -> {
+    }, response -> response.addCookie(new Cookie("SESSION", "a"))),
+        "snippets");
+    document(result(request -> {
+    }, response -> response.addCookie(new Cookie("SESSION", "b"))),
+        "snippets");
+
+    assertThat(written).isEqualTo(2);
+  }
+
+  @Test
+  void requestHeaderValues() throws Exception {
+    document(result(request -> request.addHeader("Authorization", "Bearer a"), response -> {
+    }), "snippets");
+    document(result(request -> request.addHeader("Authorization", "Bearer b"), response -> {
+    }), "snippets"); // 실행마다 바뀌는 토큰은 비교하지 않는다.
+
+    assertThat(written).isEqualTo(1);
+
+    document(result(request -> {
+      request.addHeader("Authorization", "Bearer b");
+      request.addHeader("Accept-Language", "en");
+    }, response -> {
+    }), "snippets");
+    document(result(request -> {
+      request.addHeader("Authorization", "Bearer b");
+      request.addHeader("Accept-Language", "ko");
+    }, response -> {
+    }), "snippets");
+
+    assertThat(written).isEqualTo(3);
+  }
+
+  @Test
+  void rewriteChangedMultipartFile() throws Exception {
+    document(multipartResult("a"), "snippets");
+    document(multipartResult("a"), "snippets");
+
+    assertThat(written).isEqualTo(1);
+
+    document(multipartResult("b"), "snippets");
+
+    assertThat(written).isEqualTo(2);
+  }
+
+  @Test
+  void rewriteChangedDescriptor() throws Exception {
+    MvcResult result = result(request -> {
+    }, response -> {
+    });
+
+    document(result, List.of(fieldWithPath("id").description("일련 번호")
+        .attributes(key("format").value(new Format("yyyy")))));
+    document(result, List.of(fieldWithPath("id").description("일련 번호")
+        .attributes(key("format").value(new Format("yyyy")))));
+
+    assertThat(written).isEqualTo(1);
+
+    document(result, List.of(fieldWithPath("id").description("일련 번호")
+        .attributes(key("format").value(new Format("yyyy-MM")))));
+    document(result, List.of(fieldWithPath("id").description("번호")
+        .attributes(key("format").value(new Format("yyyy-MM")))));
+    document(result, List.of(fieldWithPath("id").description("번호").optional()
+        .attributes(key("format").value(new Format("yyyy-MM")))));
+
+    assertThat(written).isEqualTo(4);
+  }
+
+  /**
+   * 문서 작성
+   *
+   * @param result   요청 & 응답 정보
+   * @param snippets 문서 구성 요소
+   * @throws Exception exception
+   * @apiNote 문서를 작성하면 작성 횟수를 늘리고 문서 directory 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private void document(MvcResult result, Object snippets) throws Exception {
+    new FingerprintResultHandler(ignored -> {
+      written++;
+      Files.createDirectories(directory.resolve(DOCUMENT_PATH));
+    }, DOCUMENT_PATH, snippets, "preprocessor").handle(result);
+  }
+
+  /**
+   * 요청 & 응답 정보 생성
+   *
+   * @param requestCustomizer  요청 설정
+   * @param responseCustomizer 응답 설정
+   * @return mvc result
+   * @apiNote RestDocs 설정을 요청에 기록한 요청 & 응답 정보
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private MvcResult result(Consumer<MockHttpServletRequest> requestCustomizer,
+      Consumer<MockHttpServletResponse> responseCustomizer) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/samples");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    requestCustomizer.accept(request);
+    responseCustomizer.accept(response);
+    response.getWriter().write("{\"id\":1}");
+
+    return result(request, response);
+  }
+
+  /**
+   * multipart 요청 & 응답 정보 생성
+   *
+   * @param content 파일 내용
+   * @return mvc result
+   * @apiNote 파일 하나를 올린 요청 & 응답 정보
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private MvcResult multipartResult(String content) {
+    MockMultipartHttpServletRequest request = new MockMultipartHttpServletRequest();
+
+    request.addFile(new MockMultipartFile("file", "sample.txt", "text/plain",
+        content.getBytes()));
+
+    return result(request, new MockHttpServletResponse());
+  }
+
+  /**
+   * 요청 & 응답 정보 생성
+   *
+   * @param request  요청
+   * @param response 응답
+   * @return mvc result
+   * @apiNote 요청에 RestDocs 설정 기록
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private MvcResult result(MockHttpServletRequest request, MockHttpServletResponse response) {
+    Map<String, Object> configuration = new HashMap<>();
+
+    configuration.put(RestDocumentationContext.class.getName(), context);
+    request.setAttribute(FingerprintResultHandler.ATTRIBUTE_NAME_CONFIGURATION, configuration);
+
+    MvcResult result = mock(MvcResult.class);
+
+    when(result.getRequest()).thenReturn(request);
+    when(result.getResponse()).thenReturn(response);
+
+    return result;
+  }
+
+  /**
+   * getter 가 없는 attribute 값
+   *
+   * @author FreshR
+   * @apiNote 속성을 읽을 수 없어도 {@link Object#toString()} 으로 비교하는지 확인
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private static class Format {
+
+    private final String pattern;
+
+    private Format(String pattern) {
+      this.pattern = pattern;
+    }
+
+    @Override
+    public String toString() {
+      return pattern;
+    }
+
+  }
+
+}
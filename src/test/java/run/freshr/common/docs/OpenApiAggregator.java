@@ -0,0 +1,972 @@
+package run.freshr.common.docs;
+
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OpenAPI 증분 통합 기능
+ *
+ * @author FreshR
+ * @apiNote restdocs-api-spec 이 테스트마다 작성한 resource.json 을 하나의 OpenAPI 3 문서로 통합<br>
+ *          resource.json 의 내용 hash 를 index 에 기록하고 내용이 바뀐 파일만 다시 해석한다.<br>
+ *          해석한 operation 은 hash 이름의 파일로 cache directory 에 보관하고,
+ *          OpenAPI 문서는 cache 파일을 하나씩 읽어서 stream 으로 작성하므로 전체 operation 을 메모리에 올리지 않는다.<br>
+ *          바뀐 resource.json 이 없으면 OpenAPI 문서를 다시 작성하지 않는다.<br>
+ *          parameter, body, 응답 header, enum 값, 보안 요구 사항을 restdocs-api-spec 의 OpenAPI 3 변환과 같이 작성하고,
+ *          같은 path 와 method 의 operation 은 parameter, body, 응답, 보안 요구 사항을 합친다.<br>
+ *          OAuth2 보안 요구 사항은 flow 정보가 없으므로 {@code oauth2} scheme 의 flow 를 직접 설정해야 한다.<br>
+ *          resource.json 은 restdocs-api-spec 0.19.1 (RestDocs 3) 형식으로 읽는다.
+ * @since 2026. 10. 17. 오후 7:48:31
+ */
+@Slf4j
+public class OpenApiAggregator {
+
+  private static final String RESOURCE_FILE_NAME = "resource.json";
+  private static final String INDEX_FILE_NAME = "index.json";
+  private static final int INDEX_FORMAT = 2; // operation cache 형식. 바뀌면 모든 resource.json 을 다시 해석
+  private static final String OPENAPI_VERSION = "3.0.1";
+  private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+  private static final String SECURITY_REQUIREMENTS = "securityRequirements";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final Path snippetsDirectory;
+  private final Path cacheDirectory;
+
+  /**
+   * 생성자
+   *
+   * @param snippetsDirectory resource.json 을 찾을 snippet directory
+   * @param cacheDirectory    index 와 operation 을 보관할 directory
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  public OpenApiAggregator(Path snippetsDirectory, Path cacheDirectory) {
+    this.snippetsDirectory = snippetsDirectory;
+    this.cacheDirectory = cacheDirectory;
+  }
+
+  /**
+   * 실행
+   *
+   * @param args snippet directory, cache directory, OpenAPI 파일, 제목, 버전
+   * @throws IOException io exception
+   * @apiNote Gradle JavaExec 등에서 실행<br>
+   *          제목과 버전은 생략 가능
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3) {
+      throw new IllegalArgumentException(
+          "Usage: OpenApiAggregator <snippets-dir> <cache-dir> <output-file> [title] [version]");
+    }
+
+    Result result = new OpenApiAggregator(Path.of(args[0]), Path.of(args[1]))
+        .aggregate(Path.of(args[2]), args.length > 3 ? args[3] : "API",
+            args.length > 4 ? args[4] : "1.0.0");
+
+    log.info("OpenAPI aggregated: {}", result);
+  }
+
+  /**
+   * 통합
+   *
+   * @param output  OpenAPI 파일
+   * @param title   문서 제목
+   * @param version 문서 버전
+   * @return result
+   * @throws IOException io exception
+   * @apiNote 바뀐 resource.json 만 다시 해석하고 OpenAPI 문서 작성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  public Result aggregate(Path output, String title, String version) throws IOException {
+    Path indexFile = cacheDirectory.resolve(INDEX_FILE_NAME);
+    Map<String, Entry> previous = readIndex(indexFile, title, version);
+    Map<String, Entry> current = new TreeMap<>();
+    int changed = 0;
+
+    Files.createDirectories(cacheDirectory);
+
+    for (Path resource : findResources()) {
+      String key = snippetsDirectory.relativize(resource).toString().replace('\\', '/');
+      String hash = hash(resource);
+      Entry entry = previous.get(key);
+
+      if (isNull(entry) || !entry.hash().equals(hash)
+          || !Files.exists(operationFile(hash))) { // 새로 추가했거나 내용이 바뀐 resource.json
+        entry = convert(resource, hash);
+
+        if (!isNull(entry)) {
+          changed++;
+        }
+      }
+
+      if (!isNull(entry)) {
+        current.put(key, entry);
+      }
+    }
+
+    int removed = (int) previous.keySet().stream().filter(key -> !current.containsKey(key))
+        .count();
+
+    if (changed == 0 && removed == 0 && !previous.isEmpty() && Files.exists(output)) {
+      return new Result(current.size(), 0, 0);
+    }
+
+    writeOpenApi(output, title, version, current);
+    writeIndex(indexFile, title, version, current);
+    removeUnusedOperations(current);
+
+    return new Result(current.size(), changed, removed);
+  }
+
+  /**
+   * resource.json 목록 조회
+   *
+   * @return list
+   * @throws IOException io exception
+   * @apiNote snippet directory 하위의 resource.json 을 경로 순서로 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private List<Path> findResources() throws IOException {
+    if (!Files.isDirectory(snippetsDirectory)) {
+      return List.of();
+    }
+
+    try (Stream<Path> stream = Files.walk(snippetsDirectory)) {
+      return stream
+          .filter(path -> path.getFileName().toString().equals(RESOURCE_FILE_NAME))
+          .sorted()
+          .toList();
+    }
+  }
+
+  /**
+   * resource.json 해석
+   *
+   * @param resource resource.json
+   * @param hash     내용 hash
+   * @return entry
+   * @throws IOException io exception
+   * @apiNote resource.json 을 token 단위로 읽어서 OpenAPI operation 으로 변환하고 cache 파일로 저장<br>
+   *          request & response 외의 큰 값은 건너뛴다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private Entry convert(Path resource, String hash) throws IOException {
+    ObjectNode operation = objectMapper.createObjectNode();
+    JsonNode request = null;
+    JsonNode response = null;
+
+    try (JsonParser parser = objectMapper.createParser(resource.toFile())) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+
+        parser.nextToken();
+
+        switch (name) {
+          case "operationId", "summary", "description" -> {
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+              operation.put(name, parser.getText());
+            }
+          }
+          case "deprecated" -> {
+            if (parser.currentToken() == JsonToken.VALUE_TRUE) {
+              operation.put(name, true);
+            }
+          }
+          case "tags" -> operation.set(name, parser.readValueAsTree());
+          case "request" -> request = parser.readValueAsTree();
+          case "response" -> response = parser.readValueAsTree();
+          default -> parser.skipChildren();
+        }
+      }
+    }
+
+    if (isNull(request) || !request.hasNonNull("path") || !request.hasNonNull("method")) {
+      return null;
+    }
+
+    ArrayNode parameters = objectMapper.createArrayNode();
+
+    addParameters(parameters, request.path("pathParameters"), "path");
+    addParameters(parameters, request.path("queryParameters"), "query");
+    addParameters(parameters, request.path("headers"), "header");
+
+    if (!parameters.isEmpty()) {
+      operation.set("parameters", parameters);
+    }
+
+    String securityType = request.path(SECURITY_REQUIREMENTS).path("type").asText(null);
+    String securityName = securityName(securityType);
+
+    if (!isNull(securityName)) {
+      ArrayNode scopes = objectMapper.createArrayNode();
+
+      request.path(SECURITY_REQUIREMENTS).path("requiredScopes").forEach(scopes::add);
+      operation.putArray("security").addObject().set(securityName, scopes);
+    }
+
+    ObjectNode requestBody = formContent(request);
+
+    if (isNull(requestBody)) {
+      requestBody = content(request, "requestFields");
+    }
+
+    if (!isNull(requestBody)) {
+      operation.putObject("requestBody").set("content", requestBody);
+    }
+
+    ObjectNode responses = operation.putObject("responses");
+
+    if (!isNull(response)) {
+      String status = response.path("status").asText("200");
+      ObjectNode responseNode = responses.putObject(status);
+      ObjectNode responseContent = content(response, "responseFields");
+
+      responseNode.put("description", status);
+      addHeaders(responseNode, response.path("headers"));
+
+      if (!isNull(responseContent)) {
+        responseNode.set("content", responseContent);
+      }
+    }
+
+    Files.write(operationFile(hash), objectMapper.writeValueAsBytes(operation));
+
+    return new Entry(hash, request.get("path").asText(),
+        request.get("method").asText().toLowerCase(), isNull(securityName) ? null : securityType);
+  }
+
+  /**
+   * 응답 header 추가
+   *
+   * @param response 응답
+   * @param source   resource.json 의 header 목록
+   * @apiNote resource.json 의 응답 header 를 OpenAPI 응답 header 로 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private void addHeaders(ObjectNode response, JsonNode source) {
+    for (JsonNode node : source) {
+      ObjectNode header = (response.has("headers") ? (ObjectNode) response.get("headers")
+          : response.putObject("headers")).putObject(node.path("name").asText());
+
+      if (node.hasNonNull("description")) {
+        header.put("description", node.get("description").asText());
+      }
+
+      header.putObject("schema").put("type", schemaType(node.path("type").asText()));
+
+      if (node.hasNonNull("example")) {
+        header.set("example", node.get("example"));
+      }
+    }
+  }
+
+  /**
+   * parameter 추가
+   *
+   * @param parameters parameter 목록
+   * @param source     resource.json 의 parameter 목록
+   * @param in         parameter 위치
+   * @apiNote resource.json 의 parameter 를 OpenAPI parameter 로 변환<br>
+   *          ignored 인 parameter 는 제외
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private void addParameters(ArrayNode parameters, JsonNode source, String in) {
+    for (JsonNode node : source) {
+      if (node.path("ignored").asBoolean(false)) {
+        continue;
+      }
+
+      ObjectNode parameter = parameters.addObject();
+
+      parameter.put("name", node.path("name").asText());
+      parameter.put("in", in);
+      parameter.put("required", "path".equals(in) || !node.path("optional").asBoolean(false));
+
+      if (node.hasNonNull("description")) {
+        parameter.put("description", node.get("description").asText());
+      }
+
+      addEnum(parameter.putObject("schema").put("type", schemaType(node.path("type").asText())),
+          node);
+    }
+  }
+
+  /**
+   * body 변환
+   *
+   * @param source    resource.json 의 request 또는 response
+   * @param fieldName 필드 목록 이름
+   * @return object node
+   * @apiNote content type 별 schema 와 example 로 변환<br>
+   *          body 가 없는 경우 null
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private ObjectNode content(JsonNode source, String fieldName) {
+    String example = source.path("example").asText("");
+    JsonNode fields = source.path(fieldName);
+
+    if (example.isEmpty() && fields.isEmpty()) {
+      return null;
+    }
+
+    ObjectNode content = objectMapper.createObjectNode();
+    ObjectNode mediaType = content.putObject(
+        source.path("contentType").asText("application/json"));
+
+    if (!fields.isEmpty()) {
+      mediaType.set("schema", schema(fields));
+    }
+
+    if (!example.isEmpty()) {
+      try {
+        mediaType.set("example", objectMapper.readTree(example));
+      } catch (IOException e) {
+        mediaType.put("example", example);
+      }
+    }
+
+    return content;
+  }
+
+  /**
+   * form body 변환
+   *
+   * @param request resource.json 의 request
+   * @return object node
+   * @apiNote formParameters 를 form content type 의 object schema 로 변환<br>
+   *          ignored 인 parameter 는 제외하고, form parameter 가 없는 경우 null
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 3:10:26
+   */
+  private ObjectNode formContent(JsonNode request) {
+    ObjectNode schema = objectMapper.createObjectNode().put("type", "object");
+    ArrayNode required = objectMapper.createArrayNode();
+
+    for (JsonNode node : request.path("formParameters")) {
+      if (node.path("ignored").asBoolean(false)) {
+        continue;
+      }
+
+      String name = node.path("name").asText();
+      ObjectNode property = child(schema, name);
+
+      property.put("type", schemaType(node.path("type").asText()));
+
+      if (node.hasNonNull("description")) {
+        property.put("description", node.get("description").asText());
+      }
+
+      addEnum(property, node);
+
+      if (!node.path("optional").asBoolean(false)) {
+        required.add(name);
+      }
+    }
+
+    if (!schema.has("properties")) {
+      return null;
+    }
+
+    if (!required.isEmpty()) {
+      schema.set("required", required);
+    }
+
+    ObjectNode content = objectMapper.createObjectNode();
+
+    content.putObject(request.path("contentType").asText(FORM_CONTENT_TYPE))
+        .set("schema", schema);
+
+    return content;
+  }
+
+  /**
+   * schema 변환
+   *
+   * @param fields resource.json 의 필드 목록
+   * @return object node
+   * @apiNote 필드 경로 (data.list[].id) 를 중첩 schema 로 변환<br>
+   *          ignored 인 필드는 제외
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private ObjectNode schema(JsonNode fields) {
+    ObjectNode root = objectMapper.createObjectNode().put("type", "object");
+
+    for (JsonNode field : fields) {
+      if (field.path("ignored").asBoolean(false)) {
+        continue;
+      }
+
+      ObjectNode node = root;
+      String[] segments = field.path("path").asText().split("\\.");
+
+      for (String segment : segments) {
+        boolean array = segment.endsWith("[]");
+        String name = array ? segment.substring(0, segment.length() - 2) : segment;
+
+        if (!name.isEmpty()) {
+          node = child(node, name);
+        }
+
+        if (array) {
+          node.put("type", "array");
+          node = node.has("items") ? (ObjectNode) node.get("items")
+              : node.putObject("items");
+        }
+      }
+
+      String type = schemaType(field.path("type").asText());
+
+      if (!node.has("type") || !"object".equals(type)) {
+        node.put("type", type);
+      }
+
+      if (field.hasNonNull("description")) {
+        node.put("description", field.get("description").asText());
+      }
+
+      addEnum(node, field);
+    }
+
+    return root;
+  }
+
+  /**
+   * enum 값 추가
+   *
+   * @param schema schema
+   * @param source resource.json 의 parameter 또는 필드
+   * @apiNote {@code attributes.enumValues} 가 있으면 schema 의 enum 으로 추가
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private void addEnum(ObjectNode schema, JsonNode source) {
+    JsonNode enumValues = source.path("attributes").path("enumValues");
+
+    if (enumValues.isArray() && !enumValues.isEmpty()) {
+      schema.set("enum", enumValues.deepCopy());
+    }
+  }
+
+  /**
+   * 보안 scheme 이름 조회
+   *
+   * @param type restdocs-api-spec 의 보안 유형
+   * @return string
+   * @apiNote restdocs-api-spec 의 OpenAPI 3 변환과 같은 이름. 보안 요구 사항이 없거나 모르는 유형이면 null
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private static String securityName(String type) {
+    if (isNull(type)) {
+      return null;
+    }
+
+    return switch (type) {
+      case "OAUTH2" -> "oauth2";
+      case "BASIC" -> "basic";
+      case "API_KEY" -> "api_key";
+      case "JWT_BEARER" -> "bearerAuthJWT";
+      default -> null;
+    };
+  }
+
+  /**
+   * 보안 scheme 작성
+   *
+   * @param generator JSON generator
+   * @param type      restdocs-api-spec 의 보안 유형
+   * @throws IOException io exception
+   * @apiNote components.securitySchemes 의 항목 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private static void writeSecurityScheme(JsonGenerator generator, String type)
+      throws IOException {
+    generator.writeObjectFieldStart(securityName(type));
+
+    switch (type) {
+      case "OAUTH2" -> {
+        generator.writeStringField("type", "oauth2");
+        generator.writeObjectFieldStart("flows");
+        generator.writeEndObject();
+      }
+      case "BASIC" -> {
+        generator.writeStringField("type", "http");
+        generator.writeStringField("scheme", "basic");
+      }
+      case "API_KEY" -> {
+        generator.writeStringField("type", "apiKey");
+        generator.writeStringField("in", "header");
+        generator.writeStringField("name", "Authorization");
+      }
+      default -> {
+        generator.writeStringField("type", "http");
+        generator.writeStringField("scheme", "bearer");
+        generator.writeStringField("bearerFormat", "JWT");
+      }
+    }
+
+    generator.writeEndObject();
+  }
+
+  /**
+   * 하위 schema 조회
+   *
+   * @param parent 상위 schema
+   * @param name   필드 이름
+   * @return object node
+   * @apiNote 없는 경우 생성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private ObjectNode child(ObjectNode parent, String name) {
+    if (!"array".equals(parent.path("type").asText())) {
+      parent.put("type", "object");
+    }
+
+    ObjectNode properties = parent.has("properties") ? (ObjectNode) parent.get("properties")
+        : parent.putObject("properties");
+
+    return properties.has(name) ? (ObjectNode) properties.get(name)
+        : properties.putObject(name);
+  }
+
+  /**
+   * schema 유형 변환
+   *
+   * @param type restdocs 유형
+   * @return string
+   * @apiNote restdocs 의 JsonFieldType 이름을 OpenAPI 유형으로 변환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private String schemaType(String type) {
+    return switch (type.toUpperCase()) {
+      case "NUMBER" -> "number";
+      case "INTEGER" -> "integer";
+      case "BOOLEAN" -> "boolean";
+      case "ARRAY" -> "array";
+      case "OBJECT" -> "object";
+      default -> "string";
+    };
+  }
+
+  /**
+   * OpenAPI 문서 작성
+   *
+   * @param output  OpenAPI 파일
+   * @param title   문서 제목
+   * @param version 문서 버전
+   * @param entries index
+   * @throws IOException io exception
+   * @apiNote path 와 method 별로 cache 파일을 stream 으로 복사<br>
+   *          같은 path 와 method 의 operation 이 여러 개인 경우 {@link #merge(List)} 로 합친다.<br>
+   *          보안 요구 사항이 있으면 components.securitySchemes 작성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private void writeOpenApi(Path output, String title, String version,
+      Map<String, Entry> entries) throws IOException {
+    Map<String, Map<String, List<String>>> paths = new TreeMap<>();
+    Set<String> securityTypes = new TreeSet<>();
+
+    for (Entry entry : entries.values()) {
+      if (!isNull(entry.security())) {
+        securityTypes.add(entry.security());
+      }
+
+      paths.computeIfAbsent(entry.path(), key -> new TreeMap<>())
+          .computeIfAbsent(entry.method(), key -> new ArrayList<>())
+          .add(entry.hash());
+    }
+
+    if (!isNull(output.getParent())) {
+      Files.createDirectories(output.getParent());
+    }
+
+    try (JsonGenerator generator = objectMapper.createGenerator(output.toFile(),
+        JsonEncoding.UTF8)) {
+      generator.useDefaultPrettyPrinter();
+      generator.writeStartObject();
+      generator.writeStringField("openapi", OPENAPI_VERSION);
+      generator.writeObjectFieldStart("info");
+      generator.writeStringField("title", title);
+      generator.writeStringField("version", version);
+      generator.writeEndObject();
+      generator.writeObjectFieldStart("paths");
+
+      for (Map.Entry<String, Map<String, List<String>>> path : paths.entrySet()) {
+        generator.writeObjectFieldStart(path.getKey());
+
+        for (Map.Entry<String, List<String>> method : path.getValue().entrySet()) {
+          generator.writeFieldName(method.getKey());
+
+          if (method.getValue().size() == 1) {
+            try (JsonParser parser = objectMapper.createParser(
+                operationFile(method.getValue().get(0)).toFile())) {
+              parser.nextToken();
+              generator.copyCurrentStructure(parser);
+            }
+          } else {
+            generator.writeTree(merge(method.getValue()));
+          }
+        }
+
+        generator.writeEndObject();
+      }
+
+      generator.writeEndObject();
+
+      if (!securityTypes.isEmpty()) {
+        generator.writeObjectFieldStart("components");
+        generator.writeObjectFieldStart("securitySchemes");
+
+        for (String securityType : securityTypes) {
+          writeSecurityScheme(generator, securityType);
+        }
+
+        generator.writeEndObject();
+        generator.writeEndObject();
+      }
+
+      generator.writeEndObject();
+    }
+  }
+
+  /**
+   * operation 병합
+   *
+   * @param hashes 같은 path 와 method 의 operation hash 목록
+   * @return object node
+   * @throws IOException io exception
+   * @apiNote snippet 경로 순서로 첫 번째 operation 에 나머지 operation 을 합친다.<br>
+   *          parameter 는 이름과 위치가 같으면 앞의 것을 사용하고,
+   *          body 와 응답은 content type 과 status 별로 schema 를 합치며 예시는 operationId 별 examples 로 모은다.<br>
+   *          보안 요구 사항과 tag 는 중복 없이 합친다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private ObjectNode merge(List<String> hashes) throws IOException {
+    ObjectNode merged = null;
+
+    for (String hash : new LinkedHashSet<>(hashes)) {
+      ObjectNode operation = (ObjectNode) objectMapper.readTree(operationFile(hash).toFile());
+
+      toExamples(operation);
+
+      if (isNull(merged)) {
+        merged = operation;
+
+        continue;
+      }
+
+      JsonNode parameters = operation.remove("parameters");
+
+      if (!isNull(parameters)) {
+        ArrayNode mergedParameters = merged.has("parameters")
+            ? (ArrayNode) merged.get("parameters") : merged.putArray("parameters");
+
+        for (JsonNode parameter : parameters) {
+          boolean exists = false;
+
+          for (JsonNode mergedParameter : mergedParameters) {
+            exists = exists || (mergedParameter.path("name").equals(parameter.path("name"))
+                && mergedParameter.path("in").equals(parameter.path("in")));
+          }
+
+          if (!exists) {
+            mergedParameters.add(parameter);
+          }
+        }
+      }
+
+      merge(merged, operation);
+    }
+
+    return merged;
+  }
+
+  /**
+   * JSON 병합
+   *
+   * @param target 병합 대상
+   * @param source 추가할 값
+   * @apiNote 객체는 항목별로 합치고 배열은 없는 요소만 추가, 값은 대상의 값을 유지
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private static void merge(ObjectNode target, JsonNode source) {
+    Iterator<Map.Entry<String, JsonNode>> iterator = source.fields();
+
+    while (iterator.hasNext()) {
+      Map.Entry<String, JsonNode> field = iterator.next();
+      JsonNode value = target.get(field.getKey());
+
+      if (isNull(value)) {
+        target.set(field.getKey(), field.getValue());
+      } else if (value instanceof ObjectNode object && field.getValue().isObject()) {
+        merge(object, field.getValue());
+      } else if (value instanceof ArrayNode array && field.getValue().isArray()) {
+        field.getValue().forEach(element -> {
+          if (!contains(array, element)) {
+            array.add(element);
+          }
+        });
+      }
+    }
+  }
+
+  /**
+   * 배열 포함 여부
+   *
+   * @param array   배열
+   * @param element 요소
+   * @return boolean
+   * @apiNote 같은 값의 요소가 있는지 확인
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private static boolean contains(ArrayNode array, JsonNode element) {
+    for (JsonNode node : array) {
+      if (node.equals(element)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * 예시 변환
+   *
+   * @param operation operation
+   * @apiNote body 와 응답의 example 을 operationId 이름의 examples 로 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private void toExamples(ObjectNode operation) {
+    String operationId = operation.path("operationId").asText("example");
+    List<JsonNode> contents = new ArrayList<>();
+
+    contents.add(operation.path("requestBody").path("content"));
+    operation.path("responses").forEach(response -> contents.add(response.path("content")));
+
+    for (JsonNode content : contents) {
+      for (JsonNode mediaType : content) {
+        JsonNode example = ((ObjectNode) mediaType).remove("example");
+
+        if (!isNull(example)) {
+          ((ObjectNode) mediaType).putObject("examples").putObject(operationId)
+              .set("value", example);
+        }
+      }
+    }
+  }
+
+  /**
+   * index 조회
+   *
+   * @param indexFile index 파일
+   * @param title     문서 제목
+   * @param version   문서 버전
+   * @return map
+   * @throws IOException io exception
+   * @apiNote 제목, 버전, cache 형식이 바뀐 경우 빈 index 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private Map<String, Entry> readIndex(Path indexFile, String title, String version)
+      throws IOException {
+    Map<String, Entry> index = new TreeMap<>();
+
+    if (!Files.exists(indexFile)) {
+      return index;
+    }
+
+    JsonNode root = objectMapper.readTree(indexFile.toFile());
+
+    if (!title.equals(root.path("title").asText())
+        || !version.equals(root.path("version").asText())
+        || root.path("format").asInt() != INDEX_FORMAT) {
+      return index;
+    }
+
+    Iterator<Map.Entry<String, JsonNode>> iterator = root.path("snippets").fields();
+
+    while (iterator.hasNext()) {
+      Map.Entry<String, JsonNode> snippet = iterator.next();
+      JsonNode value = snippet.getValue();
+
+      index.put(snippet.getKey(), new Entry(value.path("hash").asText(),
+          value.path("path").asText(), value.path("method").asText(),
+          value.path("security").asText(null)));
+    }
+
+    return index;
+  }
+
+  /**
+   * index 저장
+   *
+   * @param indexFile index 파일
+   * @param title     문서 제목
+   * @param version   문서 버전
+   * @param entries   index
+   * @throws IOException io exception
+   * @apiNote index 저장
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private void writeIndex(Path indexFile, String title, String version,
+      Map<String, Entry> entries) throws IOException {
+    ObjectNode root = objectMapper.createObjectNode()
+        .put("format", INDEX_FORMAT)
+        .put("title", title)
+        .put("version", version);
+    ObjectNode snippets = root.putObject("snippets");
+
+    entries.forEach((key, entry) -> snippets.putObject(key)
+        .put("hash", entry.hash())
+        .put("path", entry.path())
+        .put("method", entry.method())
+        .put("security", entry.security()));
+
+    objectMapper.writeValue(indexFile.toFile(), root);
+  }
+
+  /**
+   * 사용하지 않는 operation 삭제
+   *
+   * @param entries index
+   * @throws IOException io exception
+   * @apiNote index 에 없는 cache 파일 삭제
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private void removeUnusedOperations(Map<String, Entry> entries) throws IOException {
+    Set<Path> used = new HashSet<>();
+
+    for (Entry entry : entries.values()) {
+      used.add(operationFile(entry.hash()));
+    }
+
+    try (Stream<Path> stream = Files.list(cacheDirectory)) {
+      for (Path path : stream.filter(path -> !path.getFileName().toString().equals(INDEX_FILE_NAME))
+          .filter(path -> !used.contains(path)).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  /**
+   * cache 파일 경로
+   *
+   * @param hash 내용 hash
+   * @return path
+   * @apiNote 내용 hash 이름의 operation cache 파일 경로
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private Path operationFile(String hash) {
+    return cacheDirectory.resolve(hash + ".json");
+  }
+
+  /**
+   * 내용 hash
+   *
+   * @param file 파일
+   * @return string
+   * @throws IOException io exception
+   * @apiNote 파일 내용을 읽으면서 SHA-256 hash 계산
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private static String hash(Path file) throws IOException {
+    MessageDigest digest;
+
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+
+    try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+      inputStream.transferTo(OutputStream.nullOutputStream());
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * 통합 결과
+   *
+   * @param total   전체 operation 수
+   * @param changed 다시 해석한 operation 수
+   * @param removed 삭제한 operation 수
+   * @author FreshR
+   * @apiNote 통합 결과
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  public record Result(int total, int changed, int removed) {
+
+  }
+
+  /**
+   * index 항목
+   *
+   * @param hash     resource.json 내용 hash
+   * @param path     요청 경로
+   * @param method   요청 method
+   * @param security restdocs-api-spec 의 보안 유형. 보안 요구 사항이 없으면 null
+   * @author FreshR
+   * @apiNote index 항목
+   * @since 2026. 10. 17. 오후 7:48:31
+   */
+  private record Entry(String hash, String path, String method, String security) {
+
+  }
+
+}
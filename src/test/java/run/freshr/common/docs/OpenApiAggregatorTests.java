@@ -0,0 +1,247 @@
+package run.freshr.common.docs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import run.freshr.common.docs.OpenApiAggregator.Result;
+
+/**
+ * {@link OpenApiAggregator} 확인
+ *
+ * @author FreshR
+ * @apiNote restdocs-api-spec 0.19.1 이 작성한 resource.json 으로 통합 결과와 증분 통합 확인
+ * @since 2026. 10. 18. 오전 3:10:26
+ */
+class OpenApiAggregatorTests {
+
+  private static final String FIXTURE_PATH = "/fixtures/openapi/";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void queryParameters() throws IOException {
+    JsonNode operation = aggregate("sample-get-list").path("paths").path("/api/samples/{group}")
+        .path("get");
+    JsonNode parameters = operation.path("parameters");
+
+    assertThat(parameters).hasSize(4);
+    assertThat(parameters.get(0).path("in").asText()).isEqualTo("path");
+    assertThat(parameters.get(1).path("name").asText()).isEqualTo("page");
+    assertThat(parameters.get(1).path("in").asText()).isEqualTo("query");
+    assertThat(parameters.get(1).path("required").asBoolean()).isTrue();
+    assertThat(parameters.get(1).path("schema").path("type").asText()).isEqualTo("integer");
+    assertThat(parameters.get(2).path("name").asText()).isEqualTo("keyword");
+    assertThat(parameters.get(2).path("required").asBoolean()).isFalse();
+    assertThat(parameters.get(3).path("in").asText()).isEqualTo("header");
+    assertThat(operation.path("responses").path("200").path("content")
+        .path("application/json").path("schema").path("properties").path("data")
+        .path("items").path("properties").path("id").path("type").asText())
+        .isEqualTo("number");
+  }
+
+  @Test
+  void formParameters() throws IOException {
+    JsonNode operation = aggregate("sample-post-form").path("paths").path("/api/samples")
+        .path("post");
+    JsonNode schema = operation.path("requestBody").path("content")
+        .path("application/x-www-form-urlencoded").path("schema");
+
+    assertThat(operation.has("parameters")).isFalse();
+    assertThat(schema.path("properties").path("name").path("type").asText())
+        .isEqualTo("string");
+    assertThat(schema.path("properties").has("memo")).isTrue();
+    assertThat(schema.path("required")).hasSize(1);
+    assertThat(schema.path("required").get(0).asText()).isEqualTo("name");
+    assertThat(operation.path("responses").has("201")).isTrue();
+  }
+
+  @Test
+  void securityHeadersAndEnumValues() throws IOException {
+    JsonNode openApi = aggregate("sample-put-secured");
+    JsonNode operation = openApi.path("paths").path("/api/samples/{id}").path("put");
+    JsonNode header = operation.path("responses").path("200").path("headers")
+        .path("X-Sample-Version");
+
+    assertThat(operation.path("security").get(0).has("basic")).isTrue();
+    assertThat(openApi.path("components").path("securitySchemes").path("basic").path("scheme")
+        .asText()).isEqualTo("basic");
+    assertThat(header.path("description").asText()).isEqualTo("수정한 버전");
+    assertThat(header.path("schema").path("type").asText()).isEqualTo("string");
+    assertThat(header.path("example").asText()).isEqualTo("2");
+    assertThat(operation.path("requestBody").path("content").path("application/json")
+        .path("schema").path("properties").path("status").path("enum"))
+        .extracting(JsonNode::asText)
+        .containsExactly("ACTIVE", "INACTIVE");
+  }
+
+  @Test
+  void mergeOperations() throws IOException {
+    JsonNode openApi = aggregate("sample-get-list", "sample-get-list-sorted");
+    JsonNode operation = openApi.path("paths").path("/api/samples/{group}").path("get");
+    JsonNode content = operation.path("responses").path("200").path("content")
+        .path("application/json");
+    JsonNode item = content.path("schema").path("properties").path("data").path("items")
+        .path("properties");
+
+    assertThat(operation.path("parameters")).extracting(node -> node.path("name").asText())
+        .containsExactlyInAnyOrder("group", "page", "keyword", "Authorization", "sort");
+    assertThat(item.has("id")).isTrue();
+    assertThat(item.has("name")).isTrue();
+    assertThat(item.path("status").path("enum")).hasSize(2);
+    assertThat(content.has("example")).isFalse();
+    assertThat(content.path("examples").path("sample-get-list").path("value").path("data")
+        .get(0).path("id").asInt()).isEqualTo(1);
+    assertThat(content.path("examples").path("sample-get-list-sorted").path("value")
+        .path("data").get(0).path("id").asInt()).isEqualTo(2);
+    assertThat(operation.path("security").get(0).has("bearerAuthJWT")).isTrue();
+    assertThat(operation.path("tags")).extracting(JsonNode::asText)
+        .containsExactlyInAnyOrder("Sample", "Sort");
+    assertThat(openApi.path("components").path("securitySchemes").path("bearerAuthJWT")
+        .path("bearerFormat").asText()).isEqualTo("JWT");
+  }
+
+  @Test
+  void skipUnchanged() throws IOException {
+    copy("sample-get-list", "sample-post-form");
+
+    assertThat(aggregate()).isEqualTo(new Result(2, 2, 0));
+
+    Path output = directory.resolve("openapi.json");
+
+    Files.writeString(output, "{}"); // 다시 작성하지 않으면 그대로 남는다.
+
+    assertThat(aggregate()).isEqualTo(new Result(2, 0, 0));
+    assertThat(Files.readString(output)).isEqualTo("{}");
+  }
+
+  @Test
+  void rewriteChanged() throws IOException {
+    copy("sample-get-list", "sample-post-form");
+    aggregate();
+
+    List<Path> before = operationFiles();
+    Path resource = directory.resolve("snippets/sample-post-form/resource.json");
+
+    Files.writeString(resource, Files.readString(resource)
+        .replace("\"summary\" : \"Sample 등록\"", "\"summary\" : \"Sample 등록 수정\""));
+
+    assertThat(aggregate()).isEqualTo(new Result(2, 1, 0));
+    assertThat(readOutput().path("paths").path("/api/samples").path("post").path("summary")
+        .asText()).isEqualTo("Sample 등록 수정");
+    assertThat(operationFiles()).hasSize(2).isNotEqualTo(before);
+  }
+
+  @Test
+  void dropRemoved() throws IOException {
+    copy("sample-get-list", "sample-post-form");
+    aggregate();
+
+    Path resource = directory.resolve("snippets/sample-post-form/resource.json");
+
+    Files.delete(resource);
+
+    assertThat(aggregate()).isEqualTo(new Result(1, 0, 1));
+    assertThat(readOutput().path("paths").has("/api/samples")).isFalse();
+    assertThat(readOutput().path("paths").has("/api/samples/{group}")).isTrue();
+    assertThat(operationFiles()).hasSize(1);
+  }
+
+  /**
+   * 통합
+   *
+   * @param operations fixture operation 이름 목록
+   * @return json node
+   * @throws IOException io exception
+   * @apiNote fixture resource.json 을 snippet directory 에 복사하고 통합한 OpenAPI 문서 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 3:10:26
+   */
+  private JsonNode aggregate(String... operations) throws IOException {
+    copy(operations);
+    aggregate();
+
+    return readOutput();
+  }
+
+  /**
+   * 통합
+   *
+   * @return result
+   * @throws IOException io exception
+   * @apiNote snippet directory 의 resource.json 통합
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private Result aggregate() throws IOException {
+    return new OpenApiAggregator(directory.resolve("snippets"), directory.resolve("cache"))
+        .aggregate(directory.resolve("openapi.json"), "API", "1.0.0");
+  }
+
+  /**
+   * fixture 복사
+   *
+   * @param operations fixture operation 이름 목록
+   * @throws IOException io exception
+   * @apiNote fixture resource.json 을 snippet directory 의 operation 이름 directory 에 복사
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private void copy(String... operations) throws IOException {
+    for (String operation : operations) {
+      Path resource = directory.resolve("snippets").resolve(operation).resolve("resource.json");
+
+      Files.createDirectories(resource.getParent());
+
+      try (InputStream inputStream = getClass().getResourceAsStream(
+          FIXTURE_PATH + operation + "/resource.json")) {
+        assertThat(inputStream).isNotNull();
+        Files.copy(inputStream, resource);
+      }
+    }
+  }
+
+  /**
+   * OpenAPI 문서 조회
+   *
+   * @return json node
+   * @throws IOException io exception
+   * @apiNote 통합한 OpenAPI 문서 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private JsonNode readOutput() throws IOException {
+    return objectMapper.readTree(directory.resolve("openapi.json").toFile());
+  }
+
+  /**
+   * operation cache 파일 목록 조회
+   *
+   * @return list
+   * @throws IOException io exception
+   * @apiNote cache directory 의 index 를 제외한 파일 목록
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:05:12
+   */
+  private List<Path> operationFiles() throws IOException {
+    try (Stream<Path> stream = Files.list(directory.resolve("cache"))) {
+      return new ArrayList<>(stream
+          .filter(path -> !path.getFileName().toString().equals("index.json"))
+          .sorted()
+          .toList());
+    }
+  }
+
+}
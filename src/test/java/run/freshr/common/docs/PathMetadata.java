@@ -0,0 +1,45 @@
+package run.freshr.common.docs;
+
+import com.querydsl.core.types.Path;
+import java.util.HashMap;
+import run.freshr.common.enumerations.ColumnType;
+import run.freshr.common.enumerations.FieldType;
+
+/**
+ * {@link Path} 문서 정보
+ *
+ * @param name        이름
+ * @param description 설명
+ * @param columnType  컬럼 유형
+ * @param size        제한 크기
+ * @param format      규칙
+ * @param type        유형
+ * @author FreshR
+ * @apiNote QueryDsl {@link Path} 를 해석한 변경할 수 없는 문서 정보
+ * @since 2026. 10. 17. 오전 11:02:17
+ */
+public record PathMetadata(String name, String description, ColumnType columnType, String size,
+                           String format, FieldType type) {
+
+  /**
+   * {@link HashMap} 으로 변환
+   *
+   * @return hash map
+   * @apiNote 기존 pathMap 과 같은 구조의 {@link HashMap} 으로 변환
+   * @author FreshR
+   * @since 2026. 10. 17. 오전 11:02:17
+   */
+  public HashMap<String, Object> toMap() {
+    HashMap<String, Object> map = new HashMap<>();
+
+    map.put("name", name); // 이름
+    map.put("description", description); // 설명
+    map.put("columnType", columnType); // 컬럼 유형
+    map.put("size", size); // 제한 크기
+    map.put("format", format); // 규칙
+    map.put("type", type); // 유형
+
+    return map;
+  }
+
+}
@@ -0,0 +1,335 @@
+package run.freshr.common.docs;
+
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.servlet.http.Cookie;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.restdocs.operation.preprocess.ContentModifier;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultHandler;
+import org.springframework.web.servlet.FlashMap;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import run.freshr.common.docs.ResponseCaptureSnippet.Capture;
+
+/**
+ * 응답 body 크기 제한 문서 작성 기능
+ *
+ * @author FreshR
+ * @apiNote 응답 body 가 최대 크기를 넘으면 앞부분만 담은 응답으로 문서를 작성<br>
+ *          원본 크기와 SHA-256 은 응답 header 가 아니라 RestDocs 설정 attribute 로 전달하고
+ *          {@link ResponseCaptureSnippet} 이 별도 snippet 으로 작성한다.<br>
+ *          {@code Content-Length} 는 RestDocs 가 문서에 작성한 body 크기로 다시 계산한다.<br>
+ *          JSON 응답은 배열 요소 생략 기능이 있으면 먼저 배열을 생략하고, 최대 크기 이하가 되면 그 결과를 사용한다.<br>
+ *          그래도 크면 최대 크기 안에 들어가는 앞부분의 값까지만 남기고 열린 객체 & 배열을 닫아서 올바른 JSON 으로 작성한다.<br>
+ *          JSON 이 아닌 응답은 UTF-8 문자가 나뉘지 않는 위치에서 자른다.<br>
+ *          검증(andExpect)은 MockMvc 의 원본 응답으로 실행하므로 영향이 없다.<br>
+ *          앞부분만 남긴 JSON 은 뒤의 field 가 빠져서 응답 field 문서를 검증할 수 없으므로
+ *          field 를 문서화하는 응답보다 큰 값으로 설정한다.
+ * @since 2026. 10. 17. 오후 11:58:21
+ */
+public class ResponseCaptureResultHandler implements ResultHandler {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final ResultHandler delegate;
+  private final int maxSize;
+  private final ContentModifier arrayTruncate;
+
+  /**
+   * 생성자
+   *
+   * @param delegate      문서 작성 기능
+   * @param maxSize       문서에 남길 응답 body 최대 크기 (byte)
+   * @param arrayTruncate 배열 요소 생략 기능. 사용하지 않는 경우 null
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:58:21
+   */
+  public ResponseCaptureResultHandler(ResultHandler delegate, int maxSize,
+      @Nullable ContentModifier arrayTruncate) {
+    this.delegate = delegate;
+    this.maxSize = maxSize;
+    this.arrayTruncate = arrayTruncate;
+  }
+
+  @Override
+  public void handle(MvcResult result) throws Exception {
+    MockHttpServletResponse response = result.getResponse();
+    byte[] content = response.getContentAsByteArray();
+
+    if (content.length <= maxSize) {
+      delegate.handle(result);
+
+      return;
+    }
+
+    MockHttpServletResponse captured = capture(response, content);
+
+    record(result.getRequest(), content, captured.getContentAsByteArray().length);
+    delegate.handle(new CapturedMvcResult(result, captured));
+  }
+
+  /**
+   * 응답 복사
+   *
+   * @param response 원본 응답
+   * @param content  원본 body
+   * @return mock http servlet response
+   * @throws IOException io exception
+   * @apiNote 상태, header, cookie 는 그대로 복사하고 body 는 최대 크기까지만 복사
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:58:21
+   */
+  private MockHttpServletResponse capture(MockHttpServletResponse response, byte[] content)
+      throws IOException {
+    MockHttpServletResponse captured = new MockHttpServletResponse();
+
+    captured.setStatus(response.getStatus());
+
+    for (String name : response.getHeaderNames()) {
+      if (name.equalsIgnoreCase(HttpHeaders.SET_COOKIE)
+          || name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)) {
+        continue;
+      }
+
+      for (Object value : response.getHeaderValues(name)) {
+        captured.addHeader(name, String.valueOf(value));
+      }
+    }
+
+    for (Cookie cookie : response.getCookies()) {
+      captured.addCookie(cookie);
+    }
+
+    captured.getOutputStream().write(truncate(content, response.getContentType()));
+
+    return captured;
+  }
+
+  /**
+   * 생략 정보 기록
+   *
+   * @param request          요청
+   * @param content          원본 body
+   * @param documentedLength 문서에 남긴 body 크기
+   * @throws NoSuchAlgorithmException no such algorithm exception
+   * @apiNote 원본 크기와 SHA-256 을 RestDocs 설정 attribute 에 기록<br>
+   *          RestDocs 는 설정 attribute 를 operation attribute 로 전달하므로
+   *          {@link ResponseCaptureSnippet} 만 읽고 요청 & 응답 문서에는 남지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  @SuppressWarnings("unchecked")
+  private void record(MockHttpServletRequest request, byte[] content, int documentedLength)
+      throws NoSuchAlgorithmException {
+    Object configuration = request.getAttribute(
+        FingerprintResultHandler.ATTRIBUTE_NAME_CONFIGURATION);
+
+    if (!(configuration instanceof Map<?, ?> map)) { // RestDocs 설정이 없는 MockMvc
+      return;
+    }
+
+    ((Map<String, Object>) map).put(ResponseCaptureSnippet.ATTRIBUTE_NAME,
+        new Capture(content.length, documentedLength, "sha-256=:" + Base64.getEncoder()
+            .encodeToString(MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content)) + ":"));
+  }
+
+  /**
+   * body 생략
+   *
+   * @param content     원본 body
+   * @param contentType content type
+   * @return byte [ ]
+   * @apiNote 배열 요소를 생략한 JSON 이 최대 크기 이하면 그 결과,
+   *          아니면 JSON 은 {@link #truncateJson(byte[])}, 그 외에는 {@link #truncateText(byte[])}
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:58:21
+   */
+  private byte[] truncate(byte[] content, String contentType) {
+    MediaType mediaType = isNull(contentType) ? null : MediaType.parseMediaType(contentType);
+
+    if (!isJson(mediaType)) {
+      return truncateText(content);
+    }
+
+    byte[] truncated = isNull(arrayTruncate) ? content
+        : arrayTruncate.modifyContent(content, mediaType);
+
+    if (truncated.length <= maxSize) {
+      return truncated;
+    }
+
+    try {
+      return truncateJson(truncated);
+    } catch (IOException e) { // 올바른 JSON 이 아닌 응답
+      return truncateText(content);
+    }
+  }
+
+  /**
+   * JSON 생략
+   *
+   * @param content 원본 body
+   * @return byte [ ]
+   * @throws IOException io exception
+   * @apiNote token 단위로 복사하면서 값이 끝날 때마다 열린 객체 & 배열을 닫은 크기를 확인하고,
+   *          최대 크기 이하인 마지막 위치까지 남긴 뒤 열린 객체 & 배열을 닫는다.<br>
+   *          최상위 값 하나가 최대 크기보다 큰 경우 빈 body
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:58:21
+   */
+  private byte[] truncateJson(byte[] content) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(maxSize);
+    StringBuilder closers = new StringBuilder(); // 열린 객체 & 배열을 닫는 문자, 안쪽부터 역순
+    int size = 0;
+    String suffix = "";
+
+    try (JsonParser parser = JSON_FACTORY.createParser(content);
+        JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+      JsonToken token;
+
+      while (!isNull(token = parser.nextToken())) {
+        switch (token) {
+          case START_ARRAY -> closers.append(']');
+          case START_OBJECT -> closers.append('}');
+          case END_ARRAY, END_OBJECT -> closers.setLength(closers.length() - 1);
+          default -> {
+          }
+        }
+
+        generator.copyCurrentEvent(parser);
+
+        if (token == JsonToken.FIELD_NAME) { // 값이 없는 field 이름은 남길 수 없다.
+          continue;
+        }
+
+        generator.flush();
+
+        if (outputStream.size() + closers.length() > maxSize) {
+          break;
+        }
+
+        size = outputStream.size();
+        suffix = new StringBuilder(closers).reverse().toString();
+      }
+    }
+
+    byte[] truncated = Arrays.copyOf(outputStream.toByteArray(), size + suffix.length());
+
+    System.arraycopy(suffix.getBytes(StandardCharsets.US_ASCII), 0, truncated, size,
+        suffix.length());
+
+    return truncated;
+  }
+
+  /**
+   * 문자열 생략
+   *
+   * @param content 원본 body
+   * @return byte [ ]
+   * @apiNote 최대 크기까지 자르고, 자른 위치가 UTF-8 문자 중간이면 그 문자의 앞에서 자른다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:58:21
+   */
+  private byte[] truncateText(byte[] content) {
+    int end = maxSize;
+
+    // 이어지는 byte(10xxxxxx) 는 최대 3개
+    while (end > 0 && maxSize - end < 3 && (content[end] & 0xC0) == 0x80) {
+      end--;
+    }
+
+    return Arrays.copyOf(content, (content[end] & 0xC0) == 0x80 ? maxSize : end);
+  }
+
+  /**
+   * JSON 여부
+   *
+   * @param contentType content type
+   * @return boolean
+   * @apiNote application/json 또는 +json 유형인지 확인
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:58:21
+   */
+  private static boolean isJson(MediaType contentType) {
+    return !isNull(contentType)
+        && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+        || contentType.getSubtype().endsWith("+json"));
+  }
+
+  /**
+   * 문서 작성용 요청 & 응답 정보
+   *
+   * @author FreshR
+   * @apiNote 응답만 복사한 응답으로 교체
+   * @since 2026. 10. 17. 오후 11:58:21
+   */
+  private record CapturedMvcResult(MvcResult delegate, MockHttpServletResponse response)
+      implements MvcResult {
+
+    @Override
+    public MockHttpServletRequest getRequest() {
+      return delegate.getRequest();
+    }
+
+    @Override
+    public MockHttpServletResponse getResponse() {
+      return response;
+    }
+
+    @Override
+    public Object getHandler() {
+      return delegate.getHandler();
+    }
+
+    @Override
+    public HandlerInterceptor[] getInterceptors() {
+      return delegate.getInterceptors();
+    }
+
+    @Override
+    public ModelAndView getModelAndView() {
+      return delegate.getModelAndView();
+    }
+
+    @Override
+    public Exception getResolvedException() {
+      return delegate.getResolvedException();
+    }
+
+    @Override
+    public FlashMap getFlashMap() {
+      return delegate.getFlashMap();
+    }
+
+    @Override
+    public Object getAsyncResult() {
+      return delegate.getAsyncResult();
+    }
+
+    @Override
+    public Object getAsyncResult(long timeToWait) {
+      return delegate.getAsyncResult(timeToWait);
+    }
+
+  }
+
+}
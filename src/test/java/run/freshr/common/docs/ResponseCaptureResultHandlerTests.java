@@ -0,0 +1,298 @@
+package run.freshr.common.docs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.restdocs.ManualRestDocumentation;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import run.freshr.common.docs.ResponseCaptureSnippet.Capture;
+
+/**
+ * {@link ResponseCaptureResultHandler} 확인
+ *
+ * @author FreshR
+ * @apiNote 최대 크기를 넘는 응답 body 를 올바른 JSON & UTF-8 로 자르고
+ *          원본 크기와 SHA-256 을 응답 header 가 아닌 {@link ResponseCaptureSnippet} 으로 남기는지 확인
+ * @since 2026. 10. 18. 오후 6:41:07
+ */
+class ResponseCaptureResultHandlerTests {
+
+  private static final String JSON = "{\"a\":[1,2,3],\"b\":\"xyz\"}";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @TempDir
+  Path directory;
+
+  private MvcResult captured;
+
+  @Test
+  void underMaxSize() throws Exception {
+    MvcResult result = result(JSON, MediaType.APPLICATION_JSON_VALUE);
+
+    capture(result, 100);
+
+    assertThat(captured).isSameAs(result);
+    assertThat(configuration(result)).doesNotContainKey(ResponseCaptureSnippet.ATTRIBUTE_NAME);
+  }
+
+  @Test
+  void closeOpenContainers() throws Exception {
+    assertThat(captureJson(JSON, 11)).isEqualTo("{\"a\":[1,2]}");
+    assertThat(captureJson(JSON, 12)).isEqualTo("{\"a\":[1,2]}");
+    assertThat(captureJson("[[1,[2,3]],4]", 9)).isEqualTo("[[1,[2]]]");
+  }
+
+  @Test
+  void dropTrailingFieldName() throws Exception {
+    assertThat(captureJson(JSON, 13)).isEqualTo("{\"a\":[1,2,3]}");
+    assertThat(captureJson(JSON, 20)).isEqualTo("{\"a\":[1,2,3]}");
+    assertThat(captureJson("{\"a\":{\"b\":\"long value\"}}", 10)).isEqualTo("{\"a\":{}}");
+  }
+
+  @Test
+  void topLevelValueLargerThanMaxSize() throws Exception {
+    assertThat(captureJson("\"abcdefghij\"", 5)).isEmpty();
+    assertThat(captureJson("{\"a\":1}", 1)).isEmpty();
+  }
+
+  @Test
+  void keepMultiByteJsonValues() throws Exception {
+    assertThat(captureJson("{\"name\":\"가나다\",\"id\":1}", 20))
+        .isEqualTo("{\"name\":\"가나다\"}");
+    assertThat(captureJson("{\"name\":\"가나다\",\"id\":1}", 19)).isEqualTo("{}");
+  }
+
+  @Test
+  void cutTextBetweenCharacters() throws Exception {
+    assertThat(captureText("가나다", 3)).isEqualTo("가");
+    assertThat(captureText("가나다", 4)).isEqualTo("가");
+    assertThat(captureText("가나다", 5)).isEqualTo("가");
+    assertThat(captureText("가나다", 6)).isEqualTo("가나");
+    assertThat(captureText("😀a", 2)).isEmpty();
+    assertThat(captureText("😀a", 4)).isEqualTo("😀");
+    assertThat(captureText("{\"broken\":", 4)).isEqualTo("{\"br"); // 올바른 JSON 이 아닌 응답
+  }
+
+  @Test
+  void recordCaptureOutsideHeaders() throws Exception {
+    MvcResult result = result(JSON, MediaType.APPLICATION_JSON_VALUE);
+
+    result.getResponse().setHeader("X-Sample-Version", "2");
+    capture(result, 11);
+
+    MockHttpServletResponse response = captured.getResponse();
+    Capture capture = (Capture) configuration(result).get(ResponseCaptureSnippet.ATTRIBUTE_NAME);
+    String digest = "sha-256=:" + Base64.getEncoder().encodeToString(MessageDigest
+        .getInstance("SHA-256").digest(JSON.getBytes(StandardCharsets.UTF_8))) + ":";
+
+    assertThat(response.getHeaderNames()).containsExactlyInAnyOrder("Content-Type",
+        "X-Sample-Version");
+    assertThat(capture).isEqualTo(new Capture(JSON.length(), 11, digest));
+  }
+
+  @Test
+  void writeCaptureSnippet() throws Exception {
+    ManualRestDocumentation restDocumentation = new ManualRestDocumentation(
+        directory.toString());
+
+    restDocumentation.beforeTest(getClass(), "writeCaptureSnippet");
+
+    try {
+      MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new SampleController())
+          .apply(documentationConfiguration(restDocumentation))
+          .build();
+
+      mockMvc.perform(get("/samples"))
+          .andDo(new ResponseCaptureResultHandler(
+              document("capture", new ResponseCaptureSnippet()), 11, null));
+      mockMvc.perform(get("/samples"))
+          .andDo(new ResponseCaptureResultHandler(
+              document("full", new ResponseCaptureSnippet()), 100, null));
+    } finally {
+      restDocumentation.afterTest();
+    }
+
+    assertThat(Files.readString(directory.resolve("capture/response-capture.adoc")))
+        .contains("|" + JSON.length(), "|11", "sha-256=:");
+    assertThat(Files.readString(directory.resolve("capture/http-response.adoc")))
+        .contains("{\"a\":[1,2]}")
+        .doesNotContain("X-Docs-Content-Length", "Content-Digest");
+    assertThat(directory.resolve("full/response-capture.adoc")).doesNotExist();
+    assertThat(directory.resolve("full/http-response.adoc")).exists();
+  }
+
+  /**
+   * JSON 응답 생략
+   *
+   * @param content JSON 응답 body
+   * @param maxSize 최대 크기
+   * @return string
+   * @throws Exception exception
+   * @apiNote 생략한 body 가 최대 크기 이하의 올바른 JSON & UTF-8 인지 확인하고 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  private String captureJson(String content, int maxSize) throws Exception {
+    String truncated = captureText(content, MediaType.APPLICATION_JSON_VALUE, maxSize);
+
+    if (!truncated.isEmpty()) {
+      objectMapper.readTree(truncated);
+    }
+
+    return truncated;
+  }
+
+  /**
+   * 문자열 응답 생략
+   *
+   * @param content 응답 body
+   * @param maxSize 최대 크기
+   * @return string
+   * @throws Exception exception
+   * @apiNote text/plain 응답으로 생략
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  private String captureText(String content, int maxSize) throws Exception {
+    return captureText(content, MediaType.TEXT_PLAIN_VALUE, maxSize);
+  }
+
+  /**
+   * 응답 생략
+   *
+   * @param content     응답 body
+   * @param contentType content type
+   * @param maxSize     최대 크기
+   * @return string
+   * @throws Exception exception
+   * @apiNote 생략한 body 가 최대 크기 이하의 올바른 UTF-8 인지 확인하고 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  private String captureText(String content, String contentType, int maxSize) throws Exception {
+    capture(result(content, contentType), maxSize);
+
+    byte[] truncated = captured.getResponse().getContentAsByteArray();
+
+    assertThat(truncated.length).isLessThanOrEqualTo(maxSize);
+
+    return decode(truncated);
+  }
+
+  /**
+   * 응답 생략
+   *
+   * @param result  요청 & 응답 정보
+   * @param maxSize 최대 크기
+   * @throws Exception exception
+   * @apiNote 문서 작성 기능에 전달된 요청 & 응답 정보 저장
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  private void capture(MvcResult result, int maxSize) throws Exception {
+    new ResponseCaptureResultHandler(documented -> captured = documented, maxSize, null)
+        .handle(result);
+  }
+
+  /**
+   * 요청 & 응답 정보 생성
+   *
+   * @param content     응답 body
+   * @param contentType content type
+   * @return mvc result
+   * @throws Exception exception
+   * @apiNote RestDocs 설정을 요청에 기록한 요청 & 응답 정보
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  private MvcResult result(String content, String contentType) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MvcResult result = mock(MvcResult.class);
+
+    request.setAttribute(FingerprintResultHandler.ATTRIBUTE_NAME_CONFIGURATION,
+        new HashMap<String, Object>());
+    response.setContentType(contentType);
+    response.getOutputStream().write(content.getBytes(StandardCharsets.UTF_8));
+    when(result.getRequest()).thenReturn(request);
+    when(result.getResponse()).thenReturn(response);
+
+    return result;
+  }
+
+  /**
+   * RestDocs 설정 조회
+   *
+   * @param result 요청 & 응답 정보
+   * @return map
+   * @apiNote 요청에 기록한 RestDocs 설정
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> configuration(MvcResult result) {
+    return (Map<String, Object>) result.getRequest()
+        .getAttribute(FingerprintResultHandler.ATTRIBUTE_NAME_CONFIGURATION);
+  }
+
+  /**
+   * UTF-8 변환
+   *
+   * @param content body
+   * @return string
+   * @throws CharacterCodingException 올바른 UTF-8 이 아닌 경우
+   * @apiNote 잘못된 byte 를 대체하지 않고 실패 처리
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  private static String decode(byte[] content) throws CharacterCodingException {
+    return StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPORT)
+        .onUnmappableCharacter(CodingErrorAction.REPORT)
+        .decode(ByteBuffer.wrap(content))
+        .toString();
+  }
+
+  /**
+   * 응답 controller
+   *
+   * @author FreshR
+   * @apiNote 고정된 JSON 응답 반환
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  @RestController
+  static class SampleController {
+
+    @GetMapping(value = "/samples", produces = MediaType.APPLICATION_JSON_VALUE)
+    String samples() {
+      return JSON;
+    }
+
+  }
+
+}
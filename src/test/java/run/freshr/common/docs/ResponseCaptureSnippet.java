@@ -0,0 +1,72 @@
+package run.freshr.common.docs;
+
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.snippet.TemplatedSnippet;
+
+/**
+ * 응답 body 생략 정보 문서
+ *
+ * @author FreshR
+ * @apiNote {@link ResponseCaptureResultHandler} 가 응답 body 를 생략한 경우에만
+ *          {@value #SNIPPET_NAME} snippet 에 원본 크기, 문서에 남긴 크기, 원본 SHA-256 을 작성<br>
+ *          생략 정보는 응답 header 가 아니라 operation attribute 로 전달받으므로
+ *          http-response 와 resource 문서에는 남지 않는다.
+ * @since 2026. 10. 18. 오후 6:41:07
+ */
+public class ResponseCaptureSnippet extends TemplatedSnippet {
+
+  public static final String SNIPPET_NAME = "response-capture";
+  static final String ATTRIBUTE_NAME = ResponseCaptureSnippet.class.getName(); // 생략 정보 attribute
+
+  /**
+   * 생성자
+   *
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  public ResponseCaptureSnippet() {
+    super(SNIPPET_NAME, null);
+  }
+
+  @Override
+  public void document(Operation operation) throws IOException {
+    if (isNull(operation.getAttributes().get(ATTRIBUTE_NAME))) { // 생략하지 않은 응답
+      return;
+    }
+
+    super.document(operation);
+  }
+
+  @Override
+  protected Map<String, Object> createModel(Operation operation) {
+    Capture capture = (Capture) operation.getAttributes().get(ATTRIBUTE_NAME);
+    Map<String, Object> model = new HashMap<>();
+
+    model.put("contentLength", capture.contentLength());
+    model.put("documentedLength", capture.documentedLength());
+    model.put("digest", capture.digest());
+
+    return model;
+  }
+
+  /**
+   * 응답 body 생략 정보
+   *
+   * @param contentLength    원본 body 크기 (byte)
+   * @param documentedLength 문서에 남긴 body 크기 (byte)
+   * @param digest           원본 body digest (RFC 9530 {@code sha-256=:...:} 형식)
+   * @author FreshR
+   * @apiNote 응답 body 생략 정보
+   * @since 2026. 10. 18. 오후 6:41:07
+   */
+  record Capture(int contentLength, int documentedLength, String digest) {
+
+  }
+
+}
@@ -8,6 +8,7 @@ import static org.springframework.restdocs.payload.JsonFieldType.STRING;
 
 import run.freshr.common.utils.PrintUtil;
 import run.freshr.common.utils.PrintUtil.Builder;
+import run.freshr.common.utils.PrintUtil.Template;
 
 /**
  * 공통 반환 구조를 정의
@@ -18,6 +19,134 @@ import run.freshr.common.utils.PrintUtil.Builder;
  */
 public class ResponseDocs {
 
+  /**
+   * 공통 반환 구조 template
+   *
+   * @apiNote data 를 사용하는 공통 반환 구조<br>
+   *          한 번만 작성하고 {@link #data()} 에서 재사용
+   * @since 2026. 10. 17. 오후 1:05:31
+   */
+  private static final Template DATA = PrintUtil
+      .builder()
+
+      .prefixOptional()
+      .field("message", "결과 메시지", STRING)
+      .field("data", "반환 데이터 객체", OBJECT)
+      .clearOptional()
+
+      .prefix("data")
+      .freeze();
+  /**
+   * 공통 반환 구조 template
+   *
+   * @apiNote list 를 사용하는 공통 반환 구조<br>
+   *          한 번만 작성하고 {@link #list()} 에서 재사용
+   * @since 2026. 10. 17. 오후 1:05:31
+   */
+  private static final Template LIST = PrintUtil
+      .builder()
+
+      .prefixOptional()
+      .field("message", "결과 메시지", STRING)
+      .field("list", "반환 데이터 목록", ARRAY)
+      .clearOptional()
+
+      .prefix("list[]")
+      .freeze();
+  /**
+   * 공통 반환 구조 template
+   *
+   * @apiNote page 를 사용하는 공통 반환 구조<br>
+   *          한 번만 작성하고 {@link #page()} 에서 재사용
+   * @since 2026. 10. 17. 오후 1:05:31
+   */
+  private static final Template PAGE = PrintUtil
+      .builder()
+
+      .prefixOptional()
+      .field("message", "결과 메시지", STRING)
+      .field("page", "반환 데이터 객체", OBJECT)
+      .clearOptional()
+
+      .prefix("page")
+
+      .field("content", "페이지 데이터 목록", ARRAY)
+      .field("totalElements", "총 데이터 수", NUMBER)
+      .field("last", "마지막 페이지 여부", BOOLEAN)
+      .field("totalPages", "총 페이지 수", NUMBER)
+      .field("size", "요청한 페이지 데이터 수", NUMBER)
+      .field("number", "요청한 페이지 번호", NUMBER)
+      .field("sort", "정렬 관련 데이터 객체", OBJECT)
+      .field("sort.sorted", "정렬 관련 데이터 객체", BOOLEAN)
+      .field("sort.unsorted", "정렬 관련 데이터 객체", BOOLEAN)
+      .field("sort.empty", "정렬 관련 데이터 객체", BOOLEAN)
+      .field("numberOfElements", "요청한 페이지의 데이터 수", NUMBER)
+      .field("first", "첫 페이지 여부", BOOLEAN)
+      .field("empty", "데이터가 비어있는지 여부", BOOLEAN)
+      .field("pageable", "페이징 관련 데이터 객체", OBJECT)
+
+      .prefix("page.pageable")
+
+      .field("sort", "페이징 관련 데이터 객체", OBJECT)
+      .field("sort.sorted", "페이징 관련 데이터 객체", BOOLEAN)
+      .field("sort.unsorted", "페이징 관련 데이터 객체", BOOLEAN)
+      .field("sort.empty", "페이징 관련 데이터 객체", BOOLEAN)
+      .field("offset", "페이징 관련 데이터 객체", NUMBER)
+      .field("pageSize", "페이징 관련 데이터 객체", NUMBER)
+      .field("pageNumber", "페이징 관련 데이터 객체", NUMBER)
+      .field("unpaged", "페이징 관련 데이터 객체", BOOLEAN)
+      .field("paged", "페이징 관련 데이터 객체", BOOLEAN)
+
+      .prefix("page.content[]")
+      .freeze();
+  /**
+   * 공통 반환 구조 template
+   *
+   * @apiNote cursor data 를 사용하는 공통 반환 구조<br>
+   *          한 번만 작성하고 {@link #cursor()} 에서 재사용
+   * @since 2026. 10. 17. 오후 1:05:31
+   */
+  private static final Template CURSOR = PrintUtil
+      .builder()
+
+      .prefixOptional()
+      .field("message", "결과 메시지", STRING)
+      .field("page", "반환 데이터 객체", OBJECT)
+      .clearOptional()
+
+      .prefix("page")
+
+      .field("nextPageToken", "다음 페이지 조회 토큰", STRING)
+      .field("content", "페이지 데이터 목록", ARRAY)
+      .field("totalElements", "총 데이터 수", NUMBER)
+      .field("last", "마지막 페이지 여부", BOOLEAN)
+      .field("totalPages", "총 페이지 수", NUMBER)
+      .field("size", "요청한 페이지 데이터 수", NUMBER)
+      .field("number", "요청한 페이지 번호", NUMBER)
+      .field("sort", "정렬 관련 데이터 객체", OBJECT)
+      .field("sort.sorted", "정렬 관련 데이터 객체", BOOLEAN)
+      .field("sort.unsorted", "정렬 관련 데이터 객체", BOOLEAN)
+      .field("sort.empty", "정렬 관련 데이터 객체", BOOLEAN)
+      .field("numberOfElements", "요청한 페이지의 데이터 수", NUMBER)
+      .field("first", "첫 페이지 여부", BOOLEAN)
+      .field("empty", "데이터가 비어있는지 여부", BOOLEAN)
+      .field("pageable", "페이징 관련 데이터 객체", OBJECT)
+
+      .prefix("page.pageable")
+
+      .field("sort", "페이징 관련 데이터 객체", OBJECT)
+      .field("sort.sorted", "페이징 관련 데이터 객체", BOOLEAN)
+      .field("sort.unsorted", "페이징 관련 데이터 객체", BOOLEAN)
+      .field("sort.empty", "페이징 관련 데이터 객체", BOOLEAN)
+      .field("offset", "페이징 관련 데이터 객체", NUMBER)
+      .field("pageSize", "페이징 관련 데이터 객체", NUMBER)
+      .field("pageNumber", "페이징 관련 데이터 객체", NUMBER)
+      .field("unpaged", "페이징 관련 데이터 객체", BOOLEAN)
+      .field("paged", "페이징 관련 데이터 객체", BOOLEAN)
+
+      .prefix("page.content[]")
+      .freeze();
+
   /**
    * 공통 반환 구조
    *
@@ -27,15 +156,7 @@ public class ResponseDocs {
    * @since 2024. 3. 29. 오후 2:01:33
    */
   public static Builder data() {
-    return PrintUtil
-        .builder()
-
-        .prefixOptional()
-        .field("message", "결과 메시지", STRING)
-        .field("data", "반환 데이터 객체", OBJECT)
-        .clearOptional()
-
-        .prefix("data");
+    return DATA.builder();
   }
 
   /**
@@ -47,15 +168,7 @@ public class ResponseDocs {
    * @since 2024. 3. 29. 오후 2:01:33
    */
   public static Builder list() {
-    return PrintUtil
-        .builder()
-
-        .prefixOptional()
-        .field("message", "결과 메시지", STRING)
-        .field("list", "반환 데이터 목록", ARRAY)
-        .clearOptional()
-
-        .prefix("list[]");
+    return LIST.builder();
   }
 
   /**
@@ -67,44 +180,7 @@ public class ResponseDocs {
    * @since 2024. 3. 29. 오후 2:01:33
    */
   public static Builder page() {
-    return PrintUtil
-        .builder()
-
-        .prefixOptional()
-        .field("message", "결과 메시지", STRING)
-        .field("page", "반환 데이터 객체", OBJECT)
-        .clearOptional()
-
-        .prefix("page")
-
-        .field("content", "페이지 데이터 목록", ARRAY)
-        .field("totalElements", "총 데이터 수", NUMBER)
-        .field("last", "마지막 페이지 여부", BOOLEAN)
-        .field("totalPages", "총 페이지 수", NUMBER)
-        .field("size", "요청한 페이지 데이터 수", NUMBER)
-        .field("number", "요청한 페이지 번호", NUMBER)
-        .field("sort", "정렬 관련 데이터 객체", OBJECT)
-        .field("sort.sorted", "정렬 관련 데이터 객체", BOOLEAN)
-        .field("sort.unsorted", "정렬 관련 데이터 객체", BOOLEAN)
-        .field("sort.empty", "정렬 관련 데이터 객체", BOOLEAN)
-        .field("numberOfElements", "요청한 페이지의 데이터 수", NUMBER)
-        .field("first", "첫 페이지 여부", BOOLEAN)
-        .field("empty", "데이터가 비어있는지 여부", BOOLEAN)
-        .field("pageable", "페이징 관련 데이터 객체", OBJECT)
-
-        .prefix("page.pageable")
-
-        .field("sort", "페이징 관련 데이터 객체", OBJECT)
-        .field("sort.sorted", "페이징 관련 데이터 객체", BOOLEAN)
-        .field("sort.unsorted", "페이징 관련 데이터 객체", BOOLEAN)
-        .field("sort.empty", "페이징 관련 데이터 객체", BOOLEAN)
-        .field("offset", "페이징 관련 데이터 객체", NUMBER)
-        .field("pageSize", "페이징 관련 데이터 객체", NUMBER)
-        .field("pageNumber", "페이징 관련 데이터 객체", NUMBER)
-        .field("unpaged", "페이징 관련 데이터 객체", BOOLEAN)
-        .field("paged", "페이징 관련 데이터 객체", BOOLEAN)
-
-        .prefix("page.content[]");
+    return PAGE.builder();
   }
 
   /**
@@ -116,45 +192,7 @@ public class ResponseDocs {
    * @since 2024. 3. 29. 오후 2:01:33
    */
   public static Builder cursor() {
-    return PrintUtil
-        .builder()
-
-        .prefixOptional()
-        .field("message", "결과 메시지", STRING)
-        .field("page", "반환 데이터 객체", OBJECT)
-        .clearOptional()
-
-        .prefix("page")
-
-        .field("nextPageToken", "다음 페이지 조회 토큰", STRING)
-        .field("content", "페이지 데이터 목록", ARRAY)
-        .field("totalElements", "총 데이터 수", NUMBER)
-        .field("last", "마지막 페이지 여부", BOOLEAN)
-        .field("totalPages", "총 페이지 수", NUMBER)
-        .field("size", "요청한 페이지 데이터 수", NUMBER)
-        .field("number", "요청한 페이지 번호", NUMBER)
-        .field("sort", "정렬 관련 데이터 객체", OBJECT)
-        .field("sort.sorted", "정렬 관련 데이터 객체", BOOLEAN)
-        .field("sort.unsorted", "정렬 관련 데이터 객체", BOOLEAN)
-        .field("sort.empty", "정렬 관련 데이터 객체", BOOLEAN)
-        .field("numberOfElements", "요청한 페이지의 데이터 수", NUMBER)
-        .field("first", "첫 페이지 여부", BOOLEAN)
-        .field("empty", "데이터가 비어있는지 여부", BOOLEAN)
-        .field("pageable", "페이징 관련 데이터 객체", OBJECT)
-
-        .prefix("page.pageable")
-
-        .field("sort", "페이징 관련 데이터 객체", OBJECT)
-        .field("sort.sorted", "페이징 관련 데이터 객체", BOOLEAN)
-        .field("sort.unsorted", "페이징 관련 데이터 객체", BOOLEAN)
-        .field("sort.empty", "페이징 관련 데이터 객체", BOOLEAN)
-        .field("offset", "페이징 관련 데이터 객체", NUMBER)
-        .field("pageSize", "페이징 관련 데이터 객체", NUMBER)
-        .field("pageNumber", "페이징 관련 데이터 객체", NUMBER)
-        .field("unpaged", "페이징 관련 데이터 객체", BOOLEAN)
-        .field("paged", "페이징 관련 데이터 객체", BOOLEAN)
-
-        .prefix("page.content[]");
+    return CURSOR.builder();
   }
 
 }
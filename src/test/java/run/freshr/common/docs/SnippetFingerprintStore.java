@@ -0,0 +1,520 @@
+package run.freshr.common.docs;
+
+import static java.util.Objects.isNull;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.Part;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.snippet.AbstractDescriptor;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * snippet fingerprint 저장소
+ *
+ * @author FreshR
+ * @apiNote 문서 경로 ({class-name}/{method-name}) 별로 마지막에 작성한 snippet 의 fingerprint 를 보관<br>
+ *          fingerprint 는 요청, 응답, 문서 구성 요소, 전처리 설정, RestDocs 설정과 template 의 SHA-256 hash 이다.<br>
+ *          fingerprint 가 같으면 snippet 을 다시 작성하지 않으므로 파일 수정 시간이 유지된다.<br>
+ *          snippet 에 작성하거나 작성할 때 검증하는 값은 모두 포함하므로
+ *          문서 구성 요소의 검증(응답 header 누락 등)에 실패할 요청은 항상 다시 작성해서 실패한다.<br>
+ *          snippet directory 의 {@value #FILE_NAME} 파일에 저장하므로 snippet 을 지우면 함께 지워진다.
+ * @since 2026. 10. 17. 오후 8:21:45
+ */
+public class SnippetFingerprintStore {
+
+  /**
+   * 저장 파일 이름
+   *
+   * @apiNote snippet directory 아래에 저장
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  public static final String FILE_NAME = ".fingerprints";
+
+  /**
+   * snippet directory 별 저장소
+   *
+   * @apiNote snippet directory 별 저장소
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  private static final Map<Path, SnippetFingerprintStore> STORES = new ConcurrentHashMap<>();
+  /**
+   * RestDocs template 경로
+   *
+   * @apiNote RestDocs, restdocs-api-spec 과 프로젝트에서 재정의한 template
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private static final String TEMPLATE_PATTERN =
+      "classpath*:org/springframework/restdocs/templates/**/*.snippet";
+  /**
+   * restdocs-api-spec package
+   *
+   * @apiNote 문서 구성 요소를 속성별로 비교할 유형의 package
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private static final String API_SPEC_PACKAGE = "com.epages.restdocs.apispec";
+  /**
+   * 문서 구성 요소 비교 최대 깊이
+   *
+   * @apiNote 순환 참조를 막기 위한 최대 깊이
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private static final int MAX_DEPTH = 16;
+  /**
+   * template hash
+   *
+   * @apiNote 처음 계산할 때 한 번만 읽는다.
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private static volatile byte[] templateHash;
+
+  private final Path file;
+  private final Map<String, String> fingerprintMap = new ConcurrentHashMap<>();
+  private volatile boolean modified;
+
+  /**
+   * 생성자
+   *
+   * @param file 저장 파일
+   * @apiNote 저장 파일이 있으면 읽어서 생성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  private SnippetFingerprintStore(Path file) {
+    this.file = file;
+
+    if (!Files.exists(file)) {
+      return;
+    }
+
+    try {
+      for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+        int index = line.lastIndexOf('=');
+
+        if (index > 0) {
+          fingerprintMap.put(line.substring(0, index), line.substring(index + 1));
+        }
+      }
+    } catch (IOException e) {
+      fingerprintMap.clear(); // 읽을 수 없으면 모든 snippet 을 다시 작성
+    }
+  }
+
+  /**
+   * 저장소 조회
+   *
+   * @param outputDirectory snippet directory
+   * @return snippet fingerprint store
+   * @apiNote snippet directory 별로 한 번만 읽는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  public static SnippetFingerprintStore of(File outputDirectory) {
+    Path directory = outputDirectory.toPath().toAbsolutePath().normalize();
+
+    return STORES.computeIfAbsent(directory,
+        key -> new SnippetFingerprintStore(key.resolve(FILE_NAME)));
+  }
+
+  /**
+   * 변경 여부
+   *
+   * @param key         문서 경로
+   * @param fingerprint fingerprint
+   * @return boolean
+   * @apiNote 마지막에 작성한 fingerprint 와 같고 snippet directory 가 남아있으면 FALSE
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  public boolean isChanged(String key, String fingerprint) {
+    return !fingerprint.equals(fingerprintMap.get(key))
+        || !Files.isDirectory(file.resolveSibling(key));
+  }
+
+  /**
+   * fingerprint 설정
+   *
+   * @param key         문서 경로
+   * @param fingerprint fingerprint
+   * @apiNote snippet 을 작성한 후 설정
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  public void put(String key, String fingerprint) {
+    if (!fingerprint.equals(fingerprintMap.put(key, fingerprint))) {
+      modified = true;
+    }
+  }
+
+  /**
+   * 저장
+   *
+   * @throws IOException io exception
+   * @apiNote 변경된 내용이 있으면 문서 경로 순서로 저장
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  public synchronized void save() throws IOException {
+    if (!modified) {
+      return;
+    }
+
+    List<String> lines = new ArrayList<>();
+
+    new TreeMap<>(fingerprintMap).forEach((key, value) -> lines.add(key + "=" + value));
+
+    Files.createDirectories(file.getParent());
+    Files.write(file, lines, StandardCharsets.UTF_8);
+
+    modified = false;
+  }
+
+  /**
+   * 전체 저장
+   *
+   * @throws IOException io exception
+   * @apiNote 모든 snippet directory 의 저장소 저장<br>
+   *          테스트 실행이 끝날 때 한 번 호출
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  public static void saveAll() throws IOException {
+    for (SnippetFingerprintStore store : STORES.values()) {
+      store.save();
+    }
+  }
+
+  /**
+   * fingerprint 계산
+   *
+   * @param result       요청 & 응답 정보
+   * @param snippets     문서 구성 요소
+   * @param preprocessor 전처리 설정
+   * @return string
+   * @apiNote 요청 method, URI, parameter, header, body, multipart 파일과
+   *          응답 status, header, cookie, body, 문서 구성 요소, 전처리 설정, RestDocs 설정, template 의 SHA-256 hash<br>
+   *          Authorization header 는 실행마다 바뀌는 토큰이므로 이름만 포함한다.<br>
+   *          문서 구성 요소나 요청을 읽을 수 없는 경우 null
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  public static String fingerprint(MvcResult result, Object snippets, Object preprocessor) {
+    MockHttpServletRequest request = result.getRequest();
+    MockHttpServletResponse response = result.getResponse();
+    MessageDigest digest = newDigest();
+
+    try {
+      update(digest, request.getMethod());
+      update(digest, request.getRequestURI());
+      update(digest, request.getQueryString());
+      update(digest, new TreeMap<>(request.getParameterMap()).entrySet().stream()
+          .map(entry -> entry.getKey() + "=" + String.join(",", entry.getValue())).toList()
+          .toString());
+
+      for (String name : Collections.list(request.getHeaderNames()).stream().sorted().toList()) {
+        update(digest, name);
+        update(digest, name.equalsIgnoreCase(HttpHeaders.AUTHORIZATION) ? null
+            : Collections.list(request.getHeaders(name)).toString());
+      }
+
+      update(digest, request.getContentType());
+      update(digest, request.getContentAsByteArray());
+
+      if (request instanceof MockMultipartHttpServletRequest multipartRequest) {
+        for (Map.Entry<String, List<MultipartFile>> entry : new TreeMap<>(
+            multipartRequest.getMultiFileMap()).entrySet()) {
+          for (MultipartFile file : entry.getValue()) {
+            update(digest, entry.getKey());
+            update(digest, file.getOriginalFilename());
+            update(digest, file.getContentType());
+            update(digest, String.valueOf(file.getSize()));
+            update(digest, hash(file.getInputStream()));
+          }
+        }
+      }
+
+      if (!isNull(request.getContentType()) && request.getContentType().startsWith(
+          MediaType.MULTIPART_FORM_DATA_VALUE)) {
+        for (Part part : request.getParts()) {
+          update(digest, part.getName());
+          update(digest, part.getSubmittedFileName());
+          update(digest, part.getContentType());
+          update(digest, String.valueOf(part.getSize()));
+          update(digest, hash(part.getInputStream()));
+        }
+      }
+
+      update(digest, String.valueOf(response.getStatus()));
+
+      for (String name : response.getHeaderNames().stream().sorted().toList()) {
+        update(digest, name);
+        update(digest, response.getHeaderValues(name).toString());
+      }
+
+      for (Cookie cookie : response.getCookies()) {
+        update(digest, cookie.getName() + "=" + cookie.getValue() + ";"
+            + new TreeMap<>(cookie.getAttributes()));
+      }
+
+      update(digest, response.getContentType());
+      update(digest, response.getContentAsByteArray());
+
+      update(digest, describe(snippets, 0));
+      update(digest, String.valueOf(preprocessor));
+      update(digest, describeConfiguration(request));
+      update(digest, templateHash());
+    } catch (IOException | ServletException | RuntimeException e) {
+      return null; // 읽을 수 없는 요청과 구성 요소는 항상 다시 작성
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * 문서 구성 요소 변환
+   *
+   * @param value 문서 구성 요소
+   * @param depth 깊이
+   * @return string
+   * @apiNote RestDocs descriptor 와 restdocs-api-spec 유형은 속성 이름 순서로 속성별 값을 변환하고
+   *          목록, map 은 요소별로 변환한다.<br>
+   *          그 외의 값(descriptor 의 attribute 값 등)은 {@link Object#toString()} 을 사용한다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private static String describe(Object value, int depth) {
+    if (depth > MAX_DEPTH) {
+      throw new IllegalStateException("Snippet parameters are nested too deeply");
+    }
+
+    if (isNull(value)) {
+      return "null";
+    }
+
+    if (value instanceof Collection<?> collection) {
+      return collection.stream().map(element -> describe(element, depth + 1))
+          .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    if (value.getClass().isArray()) {
+      List<String> elements = new ArrayList<>();
+
+      for (int i = 0; i < Array.getLength(value); i++) {
+        elements.add(describe(Array.get(value, i), depth + 1));
+      }
+
+      return elements.toString();
+    }
+
+    if (value instanceof Map<?, ?> map) {
+      Map<String, String> entries = new TreeMap<>();
+
+      map.forEach((key, element) -> entries.put(String.valueOf(key), describe(element,
+          depth + 1)));
+
+      return entries.toString();
+    }
+
+    if (!(value instanceof AbstractDescriptor<?>)
+        && !value.getClass().getName().startsWith(API_SPEC_PACKAGE)) {
+      return value.getClass().getName() + ":" + value;
+    }
+
+    StringBuilder builder = new StringBuilder(value.getClass().getName()).append('{');
+
+    try {
+      PropertyDescriptor[] properties = Introspector.getBeanInfo(value.getClass(), Object.class)
+          .getPropertyDescriptors();
+
+      Arrays.sort(properties, Comparator.comparing(PropertyDescriptor::getName));
+
+      for (PropertyDescriptor property : properties) {
+        Method readMethod = property.getReadMethod();
+
+        if (isNull(readMethod) || readMethod.getParameterCount() > 0) {
+          continue;
+        }
+
+        builder.append(property.getName()).append('=')
+            .append(describe(readMethod.invoke(value), depth + 1)).append(';');
+      }
+    } catch (IntrospectionException | ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot read snippet parameters " + value.getClass(), e);
+    }
+
+    return builder.append('}').toString();
+  }
+
+  /**
+   * RestDocs 설정 변환
+   *
+   * @param request 요청 정보
+   * @return string
+   * @apiNote 요청에 적용된 RestDocs 설정의 이름과 유형<br>
+   *          목록은 요소의 유형을 포함하고, 테스트마다 바뀌는 {@link RestDocumentationContext} 는 제외
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private static String describeConfiguration(MockHttpServletRequest request) {
+    Object configuration = request.getAttribute(FingerprintResultHandler
+        .ATTRIBUTE_NAME_CONFIGURATION);
+
+    if (!(configuration instanceof Map<?, ?> map)) {
+      return null;
+    }
+
+    Map<String, String> entries = new TreeMap<>();
+
+    map.forEach((key, value) -> {
+      if (value instanceof RestDocumentationContext) {
+        return;
+      }
+
+      entries.put(String.valueOf(key), value instanceof Collection<?> collection
+          ? collection.stream().map(element -> isNull(element) ? "null"
+          : element.getClass().getName()).toList().toString()
+          : isNull(value) ? "null" : value.getClass().getName());
+    });
+
+    return entries.toString();
+  }
+
+  /**
+   * template hash 조회
+   *
+   * @return byte [ ]
+   * @throws IOException io exception
+   * @apiNote classpath 의 RestDocs template 경로와 내용의 hash. 처음 한 번만 계산
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private static byte[] templateHash() throws IOException {
+    byte[] hash = templateHash;
+
+    if (!isNull(hash)) {
+      return hash;
+    }
+
+    Resource[] templates = new PathMatchingResourcePatternResolver().getResources(
+        TEMPLATE_PATTERN);
+    MessageDigest digest = newDigest();
+
+    Arrays.sort(templates, Comparator.comparing(Resource::getDescription));
+
+    for (Resource template : templates) {
+      try (InputStream inputStream = template.getInputStream()) {
+        update(digest, template.getDescription());
+        update(digest, inputStream.readAllBytes());
+      }
+    }
+
+    hash = digest.digest();
+    templateHash = hash;
+
+    return hash;
+  }
+
+  /**
+   * 내용 hash
+   *
+   * @param content multipart 파일 또는 part 의 내용
+   * @return byte [ ]
+   * @throws IOException io exception
+   * @apiNote 내용을 메모리에 올리지 않고 읽으면서 SHA-256 hash 계산. stream 은 닫는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private static byte[] hash(InputStream content) throws IOException {
+    MessageDigest digest = newDigest();
+
+    try (InputStream inputStream = new DigestInputStream(content, digest)) {
+      inputStream.transferTo(OutputStream.nullOutputStream());
+    }
+
+    return digest.digest();
+  }
+
+  /**
+   * SHA-256 생성
+   *
+   * @return message digest
+   * @apiNote SHA-256 은 모든 JVM 이 지원한다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 4:48:20
+   */
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * hash 추가
+   *
+   * @param digest message digest
+   * @param value  값
+   * @apiNote 문자열을 UTF-8 로 변환해서 추가
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  private static void update(MessageDigest digest, String value) {
+    update(digest, isNull(value) ? null : value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * hash 추가
+   *
+   * @param digest message digest
+   * @param value  값
+   * @apiNote 값 길이를 먼저 넣어서 경계가 바뀐 값이 같은 hash 가 되지 않도록 추가
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:21:45
+   */
+  private static void update(MessageDigest digest, byte[] value) {
+    int length = isNull(value) ? -1 : value.length;
+
+    digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16),
+        (byte) (length >>> 8), (byte) length});
+
+    if (!isNull(value)) {
+      digest.update(value);
+    }
+  }
+
+}
@@ -26,7 +26,8 @@ public enum ColumnType {
   INT("-2147483648 to 2147483647", null),
   BIT(null, "TRUE or FALSE"),
   LONGTEXT("4GB or 4,294,967,295 characters", null),
-  BLOB("65,535 byte", null);
+  BLOB("65,535 byte", null),
+  UUID("36 characters", "xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx");
 
   /**
    * 기본 크기
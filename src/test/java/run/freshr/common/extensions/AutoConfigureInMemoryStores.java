@@ -0,0 +1,29 @@
+package run.freshr.common.extensions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.context.annotation.Import;
+import run.freshr.common.configurations.InMemoryStoreConfiguration;
+
+/**
+ * 메모리 저장소 사용 설정
+ *
+ * @author FreshR
+ * @apiNote Redis, Elasticsearch 서버에 연결하지 않고 {@link InMemoryStoreConfiguration} 의 메모리 저장소를 사용<br>
+ *          {@link TestExtensionAware} 를 상속받은 테스트 클래스나 공통 상위 클래스에 선언<br>
+ *          선언 여부가 다른 테스트 클래스는 Application Context 를 공유하지 않으므로
+ *          문서 작성 테스트 전체에 같이 선언한다.
+ * @since 2026. 10. 17. 오후 10:12:31
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Import(InMemoryStoreConfiguration.class)
+public @interface AutoConfigureInMemoryStores {
+
+}
@@ -0,0 +1,84 @@
+package run.freshr.common.extensions;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Application Context 캐시 누락 감시 기능
+ *
+ * @author FreshR
+ * @apiNote 테스트 클래스가 새 Application Context 를 생성하면 기존 Application Context 를 생성한 테스트 클래스와 함께 경고<br>
+ *          설정이 다른 테스트 클래스를 찾아서 하나의 Application Context 를 공유하도록 맞출 때 사용<br>
+ *          {@value #MAX_CONTEXTS_PROPERTY} JUnit 설정 또는 system property 를 설정하면
+ *          생성한 Application Context 수가 넘는 테스트 클래스를 실패 처리한다.
+ * @since 2026. 10. 17. 오후 9:47:22
+ */
+@Slf4j
+class ContextCacheGuardExtension implements BeforeAllCallback {
+
+  static final String MAX_CONTEXTS_PROPERTY = "freshr.test.max-contexts";
+
+  /**
+   * Application Context 별 처음 사용한 테스트 클래스
+   *
+   * @apiNote 종료된 Application Context 는 자동으로 제거
+   * @since 2026. 10. 17. 오후 9:47:22
+   */
+  private static final Map<ApplicationContext, String> CONTEXT_MAP = new WeakHashMap<>();
+  /**
+   * 생성한 Application Context 수
+   *
+   * @apiNote 캐시에서 제거된 후 다시 생성한 Application Context 도 포함
+   * @since 2026. 10. 17. 오후 9:47:22
+   */
+  private static int loadedCount = 0;
+
+  @Override
+  public void beforeAll(ExtensionContext context) {
+    ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+    String testClassName = context.getRequiredTestClass().getName();
+    List<String> previousClassNames;
+    int loaded;
+
+    synchronized (CONTEXT_MAP) {
+      if (CONTEXT_MAP.containsKey(applicationContext)) { // 캐시 적중
+        return;
+      }
+
+      previousClassNames = new ArrayList<>(CONTEXT_MAP.values());
+      loaded = ++loadedCount;
+
+      CONTEXT_MAP.put(applicationContext, testClassName);
+    }
+
+    if (loaded == 1) {
+      return;
+    }
+
+    Collections.sort(previousClassNames);
+
+    log.warn("Context cache miss: {} loaded application context #{}."
+            + " Align its configuration with one of {} to share a context.",
+        testClassName, loaded, previousClassNames);
+
+    Integer maxContexts = context
+        .getConfigurationParameter(MAX_CONTEXTS_PROPERTY, Integer::valueOf)
+        .orElse(null);
+
+    if (!isNull(maxContexts) && loaded > maxContexts) {
+      throw new IllegalStateException("Application context #" + loaded + " loaded by "
+          + testClassName + " exceeds " + MAX_CONTEXTS_PROPERTY + "=" + maxContexts);
+    }
+  }
+
+}
@@ -0,0 +1,66 @@
+package run.freshr.common.extensions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.annotation.AliasFor;
+
+/**
+ * 문서 작성용 web 계층 테스트 설정
+ *
+ * @author FreshR
+ * @apiNote {@link WebMvcTest} 로 controller, filter, Spring Security 설정 등 web 계층만 읽는다.<br>
+ *          JPA, QueryDsl, Redis, Elasticsearch 자동 설정은 읽지 않으므로 controller 가 사용하는 service 는
+ *          {@code @MockBean} 으로 등록하고, 애플리케이션의 보안 설정 class 는 {@code @Import} 로 추가한다.<br>
+ *          {@link TestWebExtensionAware} 와 함께 사용<br>
+ *          같은 설정의 테스트 클래스는 하나의 Application Context 를 공유하므로
+ *          가능하면 {@link #controllers()} 를 비워두고 모든 controller 를 읽는다.
+ * @since 2026. 10. 17. 오후 9:47:22
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@WebMvcTest
+@AutoConfigureRestDocs
+public @interface DocsWebMvcTest {
+
+  /**
+   * 읽을 controller 목록
+   *
+   * @return class [ ]
+   * @apiNote 비워두면 모든 controller 를 읽는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 9:47:22
+   */
+  @AliasFor(annotation = WebMvcTest.class, attribute = "controllers")
+  Class<?>[] value() default {};
+
+  /**
+   * 읽을 controller 목록
+   *
+   * @return class [ ]
+   * @apiNote {@link #value()} 와 같음
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 9:47:22
+   */
+  @AliasFor(annotation = WebMvcTest.class, attribute = "controllers")
+  Class<?>[] controllers() default {};
+
+  /**
+   * 추가 설정
+   *
+   * @return string [ ]
+   * @apiNote key=value 형식의 Environment 설정
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 9:47:22
+   */
+  @AliasFor(annotation = WebMvcTest.class, attribute = "properties")
+  String[] properties() default {};
+
+}
@@ -0,0 +1,204 @@
+package run.freshr.common.extensions;
+
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
+import org.springframework.mock.web.MockPart;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Multipart 요청 데이터
+ *
+ * @author FreshR
+ * @apiNote 여러 파일, part, parameter 를 한 번에 구성하는 Multipart 요청 데이터<br>
+ *          파일은 {@link StreamingMultipartFile} 로 등록하므로 내용을 메모리에 올리지 않는다.<br>
+ *          {@link TestWebExtensionAware#POST_MULTIPART_CONTENT(String, MultipartContent, Object...)} 에 전달
+ * @since 2026. 10. 17. 오후 11:32:40
+ */
+public class MultipartContent {
+
+  private final List<StreamingMultipartFile> files = new ArrayList<>();
+  private final List<MockPart> parts = new ArrayList<>();
+  private final MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+
+  /**
+   * 생성자
+   *
+   * @apiNote {@link #create()} 사용
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  private MultipartContent() {
+  }
+
+  /**
+   * 생성
+   *
+   * @return multipart content
+   * @apiNote 빈 Multipart 요청 데이터 생성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  public static MultipartContent create() {
+    return new MultipartContent();
+  }
+
+  /**
+   * 파일 추가
+   *
+   * @param name 요청 parameter 이름
+   * @param path 파일 경로
+   * @return multipart content
+   * @apiNote 파일 이름으로 content type 을 결정하고, 모르는 유형은 application/octet-stream
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  public MultipartContent file(String name, Path path) {
+    String filename = path.getFileName().toString();
+
+    return file(name, path, filename, MediaTypeFactory.getMediaType(filename)
+        .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+  }
+
+  /**
+   * 파일 추가
+   *
+   * @param name             요청 parameter 이름
+   * @param path             파일 경로
+   * @param originalFilename 파일 이름
+   * @param contentType      content type
+   * @return multipart content
+   * @apiNote 파일 경로로 파일 추가
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  public MultipartContent file(String name, Path path, String originalFilename,
+      String contentType) {
+    try {
+      files.add(new StreamingMultipartFile(name, originalFilename, contentType, null, path,
+          Files.size(path)));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return this;
+  }
+
+  /**
+   * 파일 추가
+   *
+   * @param name             요청 parameter 이름
+   * @param originalFilename 파일 이름
+   * @param contentType      content type
+   * @param source           파일 내용. 호출할 때마다 처음부터 읽는 stream 을 반환
+   * @return multipart content
+   * @apiNote 크기는 처음 조회할 때 끝까지 읽어서 계산
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  public MultipartContent file(String name, String originalFilename, String contentType,
+      InputStreamSource source) {
+    return file(name, originalFilename, contentType, source, -1);
+  }
+
+  /**
+   * 파일 추가
+   *
+   * @param name             요청 parameter 이름
+   * @param originalFilename 파일 이름
+   * @param contentType      content type
+   * @param source           파일 내용. 호출할 때마다 처음부터 읽는 stream 을 반환
+   * @param size             파일 크기. 모르는 경우 -1
+   * @return multipart content
+   * @apiNote stream 으로 파일 추가
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  public MultipartContent file(String name, String originalFilename, String contentType,
+      InputStreamSource source, long size) {
+    files.add(new StreamingMultipartFile(name, originalFilename, contentType, source, null,
+        size));
+
+    return this;
+  }
+
+  /**
+   * part 추가
+   *
+   * @param name        part 이름
+   * @param contentType content type. null 인 경우 설정하지 않음
+   * @param content     part 내용
+   * @return multipart content
+   * @apiNote JSON 등 파일이 아닌 part 추가
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  public MultipartContent part(String name, MediaType contentType, byte[] content) {
+    MockPart part = new MockPart(name, content);
+
+    if (!isNull(contentType)) {
+      part.getHeaders().set(HttpHeaders.CONTENT_TYPE, contentType.toString());
+    }
+
+    parts.add(part);
+
+    return this;
+  }
+
+  /**
+   * parameter 추가
+   *
+   * @param name   parameter 이름
+   * @param values parameter 값 목록
+   * @return multipart content
+   * @apiNote form parameter 추가
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  public MultipartContent param(String name, String... values) {
+    params.addAll(name, List.of(values));
+
+    return this;
+  }
+
+  /**
+   * 요청 설정
+   *
+   * @param builder 요청 정보 builder
+   * @return mock multipart http servlet request builder
+   * @apiNote 파일은 {@link MockMultipartHttpServletRequest} 에 직접 등록해서
+   *          {@link org.springframework.mock.web.MockMultipartFile} 로 복사하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  MockMultipartHttpServletRequestBuilder apply(MockMultipartHttpServletRequestBuilder builder) {
+    parts.forEach(builder::part);
+    builder.params(params);
+
+    if (!files.isEmpty()) {
+      builder.with(request -> {
+        MockMultipartHttpServletRequest multipartRequest =
+            (MockMultipartHttpServletRequest) request;
+
+        files.forEach(multipartRequest::addFile);
+
+        return request;
+      });
+    }
+
+    return builder;
+  }
+
+}
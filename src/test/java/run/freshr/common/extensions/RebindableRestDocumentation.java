@@ -0,0 +1,61 @@
+package run.freshr.common.extensions;
+
+import static java.util.Objects.isNull;
+
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+
+/**
+ * 재설정 가능한 문서 정보 제공 기능
+ *
+ * @author FreshR
+ * @apiNote 한 번 생성한 MockMvc 를 재사용할 때 테스트마다 {@link RestDocumentationContextProvider} 를 교체<br>
+ *          MockMvc 는 요청할 때마다 {@link #beforeOperation()} 을 호출하므로 현재 테스트의 정보로 문서를 작성한다.
+ * @since 2026. 10. 17. 오후 3:02:40
+ */
+class RebindableRestDocumentation implements RestDocumentationContextProvider {
+
+  /**
+   * 현재 테스트의 {@link RestDocumentationContextProvider}
+   *
+   * @apiNote 테스트를 실행하는 thread 별로 관리
+   * @since 2026. 10. 17. 오후 3:02:40
+   */
+  private final ThreadLocal<RestDocumentationContextProvider> delegate = new ThreadLocal<>();
+
+  /**
+   * {@link RestDocumentationContextProvider} 설정
+   *
+   * @param restDocumentation 현재 테스트의 rest documentation
+   * @apiNote 현재 테스트의 {@link RestDocumentationContextProvider} 설정
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 3:02:40
+   */
+  void bind(RestDocumentationContextProvider restDocumentation) {
+    delegate.set(restDocumentation);
+  }
+
+  /**
+   * {@link RestDocumentationContextProvider} 제거
+   *
+   * @apiNote 현재 thread 의 {@link RestDocumentationContextProvider} 제거<br>
+   *          thread pool 의 thread 가 이전 테스트 클래스의 정보를 갖고 있지 않도록 테스트 클래스 종료 시 호출
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 3:12:48
+   */
+  void unbind() {
+    delegate.remove();
+  }
+
+  @Override
+  public RestDocumentationContext beforeOperation() {
+    RestDocumentationContextProvider restDocumentation = delegate.get();
+
+    if (isNull(restDocumentation)) {
+      throw new IllegalStateException("RestDocumentationContextProvider is not bound");
+    }
+
+    return restDocumentation.beforeOperation();
+  }
+
+}
@@ -0,0 +1,29 @@
+package run.freshr.common.extensions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestExecutionListeners.MergeMode;
+
+/**
+ * 테스트마다 테스트 데이터 복원
+ *
+ * @author FreshR
+ * @apiNote {@link TestSecurityExtensionAware} 테스트 클래스에 선언하면 테스트마다 transaction 을 시작하기 전에
+ *          {@link TestSecurityExtensionAware#restoreFixture()} 를 호출<br>
+ *          비동기 작업이나 commit 때문에 rollback 을 사용할 수 없는 테스트 클래스에서 사용
+ * @since 2026. 10. 18. 오전 3:48:12
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@TestExecutionListeners(listeners = RestoreFixtureTestExecutionListener.class,
+    mergeMode = MergeMode.MERGE_WITH_DEFAULTS)
+public @interface RestoreFixture {
+
+}
@@ -0,0 +1,32 @@
+package run.freshr.common.extensions;
+
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+
+/**
+ * 테스트 데이터 복원 기능
+ *
+ * @author FreshR
+ * @apiNote {@link TransactionalTestExecutionListener} 보다 먼저 실행하므로 테스트 transaction 을 시작하기 전에
+ *          {@link TestSecurityExtensionAware#restoreFixture()} 를 호출한다.<br>
+ *          {@link RestoreFixture} 로 등록
+ * @since 2026. 10. 18. 오전 3:48:12
+ */
+class RestoreFixtureTestExecutionListener extends AbstractTestExecutionListener {
+
+  private static final int ORDER = 3900; // TransactionalTestExecutionListener (4000) 보다 먼저 실행
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  @Override
+  public void beforeTestMethod(TestContext testContext) {
+    if (testContext.getTestInstance() instanceof TestSecurityExtensionAware<?, ?> testInstance) {
+      testInstance.restoreFixture();
+    }
+  }
+
+}
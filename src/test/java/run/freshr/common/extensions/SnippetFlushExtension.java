@@ -0,0 +1,32 @@
+package run.freshr.common.extensions;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import run.freshr.common.docs.AsyncWriterResolver;
+import run.freshr.common.docs.SnippetFingerprintStore;
+
+/**
+ * snippet 저장 완료 기능
+ *
+ * @author FreshR
+ * @apiNote 모든 테스트 실행이 끝나면 {@link AsyncWriterResolver#flush()} 와
+ *          {@link SnippetFingerprintStore#saveAll()} 을 한 번 호출<br>
+ *          저장에 실패한 snippet 이 있으면 테스트 실행 결과에 오류로 표시된다.
+ * @since 2026. 10. 17. 오후 7:20:14
+ */
+class SnippetFlushExtension implements BeforeAllCallback {
+
+  private static final Namespace NAMESPACE = Namespace.create(SnippetFlushExtension.class);
+
+  @Override
+  public void beforeAll(ExtensionContext context) {
+    context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(AsyncWriterResolver.class,
+        key -> (CloseableResource) () -> {
+          AsyncWriterResolver.flush();
+          SnippetFingerprintStore.saveAll();
+        }, CloseableResource.class);
+  }
+
+}
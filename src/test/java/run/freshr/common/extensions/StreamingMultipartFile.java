@@ -0,0 +1,163 @@
+package run.freshr.common.extensions;
+
+import static java.util.Objects.isNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 파일 데이터
+ *
+ * @author FreshR
+ * @apiNote 내용을 메모리에 올리지 않고 {@link Path} 또는 {@link InputStreamSource} 에서 필요할 때마다 읽는
+ *          {@link MultipartFile}<br>
+ *          {@link #getInputStream()}, {@link #transferTo(Path)} 는 매번 새로 읽으므로
+ *          {@link InputStreamSource} 는 호출할 때마다 처음부터 읽는 stream 을 반환해야 한다.<br>
+ *          문서 작성 중에는 {@link #getBytes()} 가 앞부분만 반환하므로 큰 파일도 snippet 에 전체가 복사되지 않는다.
+ * @since 2026. 10. 17. 오후 11:32:40
+ */
+public class StreamingMultipartFile implements MultipartFile {
+
+  private final String name;
+  private final String originalFilename;
+  private final String contentType;
+  private final InputStreamSource source;
+  private final Path path;
+
+  private long size;
+  private int previewSize = -1;
+
+  /**
+   * 생성자
+   *
+   * @param name             요청 parameter 이름
+   * @param originalFilename 파일 이름
+   * @param contentType      content type
+   * @param source           파일 내용
+   * @param path             파일 경로. {@link InputStreamSource} 로 생성한 경우 null
+   * @param size             파일 크기. 모르는 경우 -1
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  StreamingMultipartFile(String name, String originalFilename, String contentType,
+      InputStreamSource source, Path path, long size) {
+    this.name = name;
+    this.originalFilename = originalFilename;
+    this.contentType = contentType;
+    this.source = source;
+    this.path = path;
+    this.size = size;
+  }
+
+  /**
+   * 문서 작성 크기 설정
+   *
+   * @param previewSize 문서 작성 중 {@link #getBytes()} 가 반환할 최대 크기 (byte). 음수는 전체
+   * @apiNote 문서 작성 전후로 설정
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  void setPreviewSize(int previewSize) {
+    this.previewSize = previewSize;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getOriginalFilename() {
+    return originalFilename;
+  }
+
+  @Override
+  public String getContentType() {
+    return contentType;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return getSize() == 0;
+  }
+
+  /**
+   * 파일 크기 조회
+   *
+   * @return long
+   * @apiNote 크기를 모르는 경우 처음 한 번 끝까지 읽어서 계산
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  @Override
+  public long getSize() {
+    if (size < 0) {
+      try (InputStream inputStream = getInputStream()) {
+        size = inputStream.transferTo(OutputStream.nullOutputStream());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * 파일 내용 조회
+   *
+   * @return byte [ ]
+   * @throws IOException io exception
+   * @apiNote 전체 내용을 메모리에 올리므로 요청 처리에서는 {@link #getInputStream()} 사용을 권장<br>
+   *          문서 작성 중에는 설정한 크기까지만 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  @Override
+  public byte[] getBytes() throws IOException {
+    try (InputStream inputStream = getInputStream()) {
+      return previewSize < 0 ? inputStream.readAllBytes() : inputStream.readNBytes(previewSize);
+    }
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    return isNull(path) ? source.getInputStream() : Files.newInputStream(path);
+  }
+
+  @Override
+  public void transferTo(File dest) throws IOException {
+    transferTo(dest.toPath());
+  }
+
+  /**
+   * 파일 저장
+   *
+   * @param dest 저장할 경로
+   * @throws IOException io exception
+   * @apiNote 파일 경로로 생성한 경우 파일을 바로 복사하고, 그 외에는 stream 으로 복사
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  @Override
+  public void transferTo(Path dest) throws IOException {
+    if (!isNull(path)) {
+      Files.copy(path, dest, StandardCopyOption.REPLACE_EXISTING);
+
+      return;
+    }
+
+    try (InputStream inputStream = source.getInputStream()) {
+      Files.copy(inputStream, dest, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+}
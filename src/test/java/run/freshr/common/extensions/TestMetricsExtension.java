@@ -0,0 +1,61 @@
+package run.freshr.common.extensions;
+
+import static org.springframework.util.StringUtils.hasLength;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import run.freshr.common.metrics.HistogramRecorder;
+import run.freshr.common.metrics.TestMetrics;
+
+/**
+ * 테스트 측정 결과 출력 기능
+ *
+ * @author FreshR
+ * @apiNote {@value TestMetrics#ENABLED_PROPERTY} JUnit 설정 또는 system property 가 TRUE 인 경우
+ *          처음 실행하는 테스트 클래스에서 {@link HistogramRecorder} 를 설정하고
+ *          모든 테스트 실행이 끝나면 구간별, 테스트 클래스별 결과를 한 번 출력<br>
+ *          이미 다른 기록 기능을 설정한 경우 아무것도 하지 않는다.
+ * @since 2026. 10. 17. 오후 10:58:06
+ */
+@Slf4j
+class TestMetricsExtension implements BeforeAllCallback {
+
+  private static final Namespace NAMESPACE = Namespace.create(TestMetricsExtension.class);
+
+  @Override
+  public void beforeAll(ExtensionContext context) {
+    boolean enabled = context
+        .getConfigurationParameter(TestMetrics.ENABLED_PROPERTY, Boolean::parseBoolean)
+        .orElse(false);
+
+    if (!enabled) {
+      return;
+    }
+
+    context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(HistogramRecorder.class,
+        key -> {
+          if (TestMetrics.isEnabled()) { // 다른 기록 기능 사용
+            return (CloseableResource) () -> {
+            };
+          }
+
+          HistogramRecorder recorder = new HistogramRecorder();
+
+          TestMetrics.setRecorder(recorder);
+
+          return (CloseableResource) () -> {
+            String report = recorder.report();
+
+            if (hasLength(report)) {
+              log.info(report);
+            }
+
+            TestMetrics.setRecorder(null);
+          };
+        }, CloseableResource.class);
+  }
+
+}
@@ -0,0 +1,174 @@
+package run.freshr.common.extensions;
+
+import static java.util.Objects.isNull;
+import static run.freshr.domain.auth.enumerations.Role.ROLE_ANONYMOUS;
+import static run.freshr.domain.auth.enumerations.Role.ROLE_MANAGER_MAJOR;
+import static run.freshr.domain.auth.enumerations.Role.ROLE_MANAGER_MINOR;
+import static run.freshr.domain.auth.enumerations.Role.ROLE_USER;
+
+import java.time.Duration;
+import run.freshr.common.utils.RsaKeyPool;
+import run.freshr.common.utils.TokenCache;
+import run.freshr.domain.auth.enumerations.Role;
+import run.freshr.service.TestSecurityServiceAware;
+
+/**
+ * 공통 보안 기능 정의
+ *
+ * @param <S> 보안 service
+ * @param <R> test runner
+ * @author FreshR
+ * @apiNote {@link TestSecurityExtensionAware} 와 {@link TestSecurityWebExtensionAware} 가
+ *          함께 구현하는 보안 기능<br>
+ *          구현 클래스는 주입받은 service 와 runner 만 제공한다.
+ * @since 2026. 10. 18. 오후 5:20:14
+ */
+public interface TestSecurityAware
+    <S extends TestSecurityServiceAware, R extends TestSecurityRunnerAware> {
+
+  /**
+   * 보안 service 조회
+   *
+   * @return service
+   * @apiNote 주입받은 보안 service
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 5:20:14
+   */
+  S getService();
+
+  /**
+   * test runner 조회
+   *
+   * @return runner
+   * @apiNote 주입받은 test runner, 등록하지 않은 경우 null
+   * @author FreshR
+   * @since 2026. 10. 18. 오후 5:20:14
+   */
+  R getRunner();
+
+  /**
+   * 인증 정보 제거
+   *
+   * @apiNote 통신중인 인증 정보 제거
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  void removeSigned();
+
+  /**
+   * 토큰 캐시 유효 시간
+   *
+   * @return duration
+   * @apiNote 0 보다 큰 경우 일련 번호와 권한별로 발급한 토큰을 유효 시간 동안 재사용<br>
+   *          발급한 토큰이 테스트 사이에 유지되는 경우(Redis 등)에만 재정의해서 사용
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  default Duration getTokenCacheTtl() {
+    return Duration.ZERO;
+  }
+
+  /**
+   * 토큰 캐시 제거
+   *
+   * @param id   일련 번호
+   * @param role 권한
+   * @apiNote 일련 번호와 권한의 토큰 캐시 제거
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  default void invalidateToken(String id, Role role) {
+    TokenCache.of(getService()).invalidate(id, role);
+  }
+
+  /**
+   * 모든 토큰 캐시 제거
+   *
+   * @apiNote 모든 토큰 캐시 제거
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  default void invalidateTokens() {
+    TokenCache.of(getService()).invalidateAll();
+  }
+
+  /**
+   * 인증 정보 생성
+   *
+   * @apiNote ROLE_USER 권한으로 인증 정보 생성
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  default void setSignedUser() {
+    R runner = getRunner();
+
+    authentication(isNull(runner) ? TestSecurityRunnerAware.userId : runner.getUserId(),
+        ROLE_USER);
+  }
+
+  /**
+   * 인증 정보 생성
+   *
+   * @apiNote ROLE_MANAGER_MINOR 권한으로 인증 정보 생성
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  default void setSignedManager() {
+    R runner = getRunner();
+
+    authentication(isNull(runner) ? TestSecurityRunnerAware.managerId : runner.getManagerId(),
+        ROLE_MANAGER_MINOR);
+  }
+
+  /**
+   * 인증 정보 생성
+   *
+   * @apiNote ROLE_MANAGER_MAJOR 권한으로 인증 정보 생성
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  default void setSignedMighty() {
+    R runner = getRunner();
+
+    authentication(isNull(runner) ? TestSecurityRunnerAware.mightyId : runner.getMightyId(),
+        ROLE_MANAGER_MAJOR);
+  }
+
+  /**
+   * 인증 정보 생성
+   *
+   * @apiNote ROLE_ANONYMOUS 권한으로 인증 정보 생성
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  default void setAnonymous() {
+    authentication("", ROLE_ANONYMOUS);
+  }
+
+  /**
+   * RSA 정보 생성
+   *
+   * @apiNote RSA 정보 생성<br>
+   *          {@link RsaKeyPool} 에서 한 번만 생성한 키를 service 에 전달<br>
+   *          service 가 전달받은 키를 사용한 경우에만 공개키를 설정하고, 아니면 service 가 생성한 키를 그대로 둔다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 3:38:05
+   */
+  default void setRsa() {
+    TestSecuritySupport.setRsa(getService());
+  }
+
+  /**
+   * 인증 정보 설정
+   *
+   * @param id   일련 번호
+   * @param role 권한
+   * @apiNote 인증 정보 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  private void authentication(String id, Role role) {
+    TestSecuritySupport.authentication(this, getService(), getTokenCacheTtl(), id, role);
+  }
+
+}
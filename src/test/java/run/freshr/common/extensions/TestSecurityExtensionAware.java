@@ -1,114 +1,64 @@
 package run.freshr.common.extensions;
 
-import static run.freshr.common.security.TokenProvider.signedId;
-import static run.freshr.common.security.TokenProvider.signedRole;
-import static run.freshr.domain.auth.enumerations.Role.ROLE_ANONYMOUS;
-import static run.freshr.domain.auth.enumerations.Role.ROLE_MANAGER_MAJOR;
-import static run.freshr.domain.auth.enumerations.Role.ROLE_MANAGER_MINOR;
-import static run.freshr.domain.auth.enumerations.Role.ROLE_USER;
+import static java.util.Objects.isNull;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.AuthorityUtils;
-import org.springframework.security.core.context.SecurityContextHolder;
-import run.freshr.domain.auth.enumerations.Role;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import run.freshr.service.TestSecurityServiceAware;
 
 /**
  * 공통 보안 기능 정의
  *
  * @author FreshR
- * @apiNote 공통 보안 기능 정의
+ * @apiNote 공통 보안 기능 정의<br>
+ *          전체 Application Context 를 읽는 {@link TestExtensionAware} 에 {@link TestSecurityAware} 보안 기능과
+ *          테스트 데이터 복원 기능을 추가<br>
+ *          web 계층만 읽는 테스트는 {@link TestSecurityWebExtensionAware} 를 사용
  * @since 2024. 3. 29. 오후 3:13:42
  */
 public abstract class TestSecurityExtensionAware
     <S extends TestSecurityServiceAware, R extends TestSecurityRunnerAware>
-    extends TestExtensionAware {
+    extends TestExtensionAware implements TestSecurityAware<S, R> {
 
   @Autowired
   protected S service;
+  @Autowired(required = false)
+  protected R runner;
 
-  /**
-   * 인증 정보 설정
-   *
-   * @param id   일련 번호
-   * @param role 권한
-   * @apiNote 인증 정보 설정
-   * @author FreshR
-   * @since 2024. 3. 29. 오후 3:13:42
-   */
-  private void authentication(String id, Role role) {
-    removeSigned(); // 로그아웃 처리
-
-    if (!role.equals(ROLE_ANONYMOUS)) { // 게스트 권한이 아닐 경우
-      service.createAuth(id, role); // 토큰 발급 및 등록
-    }
-
-    signedRole.set(role); // 로그인한 계정 권한 설정
-    signedId.set(id); // 로그인한 계정 일련 번호 설정
-
-    SecurityContextHolder // 일회용 로그인 설정
-        .getContext()
-        .setAuthentication(new UsernamePasswordAuthenticationToken(
-            role.getPrivilege(),
-            "{noop}",
-            AuthorityUtils.createAuthorityList(role.getKey())
-        ));
+  @Override
+  public S getService() {
+    return service;
   }
 
-  /**
-   * 인증 정보 생성
-   *
-   * @apiNote ROLE_USER 권한으로 인증 정보 생성
-   * @author FreshR
-   * @since 2024. 3. 29. 오후 3:13:42
-   */
-  public void setSignedUser() {
-    authentication(R.userId, ROLE_USER);
-  }
-
-  /**
-   * 인증 정보 생성
-   *
-   * @apiNote ROLE_MANAGER_MINOR 권한으로 인증 정보 생성
-   * @author FreshR
-   * @since 2024. 3. 29. 오후 3:13:42
-   */
-  public void setSignedManager() {
-    authentication(R.managerId, ROLE_MANAGER_MINOR);
+  @Override
+  public R getRunner() {
+    return runner;
   }
 
   /**
-   * 인증 정보 생성
+   * 테스트 데이터 복원
    *
-   * @apiNote ROLE_MANAGER_MAJOR 권한으로 인증 정보 생성
+   * @apiNote {@link TestSecurityRunnerAware#restoreFixture()} 로 테스트 데이터를 복원하고 토큰 캐시 제거<br>
+   *          {@link TestExtensionAware} 는 클래스 전체가 {@code @Transactional} 이므로 {@code @BeforeEach} 에서는
+   *          이미 transaction 이 열려 있다. 테스트 클래스에 {@link RestoreFixture} 를 선언하면
+   *          transaction 을 시작하기 전에 테스트마다 호출한다.<br>
+   *          직접 호출하는 경우 {@code @Transactional(propagation = NOT_SUPPORTED)} 테스트에서만 사용하고,
+   *          transaction 이 진행 중이면 {@link IllegalStateException}
    * @author FreshR
-   * @since 2024. 3. 29. 오후 3:13:42
+   * @since 2026. 10. 17. 오후 9:18:40
    */
-  public void setSignedMighty() {
-    authentication(R.mightyId, ROLE_MANAGER_MAJOR);
-  }
+  protected void restoreFixture() {
+    if (isNull(runner)) {
+      throw new IllegalStateException("TestSecurityRunnerAware bean is not registered");
+    }
 
-  /**
-   * 인증 정보 생성
-   *
-   * @apiNote ROLE_ANONYMOUS 권한으로 인증 정보 생성
-   * @author FreshR
-   * @since 2024. 3. 29. 오후 3:13:42
-   */
-  public void setAnonymous() {
-    authentication("", ROLE_ANONYMOUS);
-  }
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException("Cannot restore fixture inside a transaction. Declare "
+          + "@RestoreFixture on the test class or use @Transactional(propagation = NOT_SUPPORTED)");
+    }
 
-  /**
-   * RSA 정보 생성
-   *
-   * @apiNote RSA 정보 생성
-   * @author FreshR
-   * @since 2024. 4. 2. 오후 3:38:05
-   */
-  protected void setRsa() {
-    service.createRsa();
+    runner.restoreFixture();
+    invalidateTokens();
   }
 
 }
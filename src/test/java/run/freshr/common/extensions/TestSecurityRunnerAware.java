@@ -1,6 +1,12 @@
 package run.freshr.common.extensions;
 
+import static java.util.Objects.isNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
 import org.springframework.boot.ApplicationRunner;
+import run.freshr.common.utils.FixtureSnapshot;
 
 /**
  * Test runner 추상 클래스
@@ -8,7 +14,9 @@ import org.springframework.boot.ApplicationRunner;
  * @author FreshR
  * @apiNote Application Run 마지막에 동작하는 Class<br>
  *          Test 코드가 실행되기 전에 동작하도록 구성<br>
- *          보안 기능을 사용하는 서비스인 경우  {@link TestSecurityExtensionAware} 와 함께 편의 기능 제공
+ *          보안 기능을 사용하는 서비스인 경우  {@link TestSecurityExtensionAware} 와 함께 편의 기능 제공<br>
+ *          계정 일련 번호는 {@link #seed(String, String, String)} 로 설정하면 Application Context 별로 관리된다.<br>
+ *          {@link #seedFixture(DataSource, Runnable)} 로 입력하면 처음 한 번만 입력하고 이후에는 snapshot 으로 복원한다.
  * @since 2024. 3. 29. 오후 3:13:42
  */
 public abstract class TestSecurityRunnerAware implements ApplicationRunner {
@@ -17,4 +25,138 @@ public abstract class TestSecurityRunnerAware implements ApplicationRunner {
   public static String managerId;
   public static String mightyId;
 
+  private String seededUserId; // Application Context 의 ROLE_USER 계정 일련 번호
+  private String seededManagerId; // Application Context 의 ROLE_MANAGER_MINOR 계정 일련 번호
+  private String seededMightyId; // Application Context 의 ROLE_MANAGER_MAJOR 계정 일련 번호
+
+  private static final Map<Class<?>, Fixture> FIXTURES =
+      new ConcurrentHashMap<>(); // runner 유형별 테스트 데이터 snapshot
+  private DataSource fixtureDataSource; // snapshot 을 복원할 Application Context 의 data source
+
+  /**
+   * 계정 일련 번호 설정
+   *
+   * @param userId    ROLE_USER 계정 일련 번호
+   * @param managerId ROLE_MANAGER_MINOR 계정 일련 번호
+   * @param mightyId  ROLE_MANAGER_MAJOR 계정 일련 번호
+   * @apiNote runner 에 계정 일련 번호를 설정<br>
+   *          여러 Application Context 를 병렬로 실행해도 섞이지 않는다.<br>
+   *          기존 코드와 호환을 위해 정적 변수에도 함께 설정한다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:41:09
+   */
+  protected void seed(String userId, String managerId, String mightyId) {
+    this.seededUserId = userId;
+    this.seededManagerId = managerId;
+    this.seededMightyId = mightyId;
+
+    TestSecurityRunnerAware.userId = userId;
+    TestSecurityRunnerAware.managerId = managerId;
+    TestSecurityRunnerAware.mightyId = mightyId;
+  }
+
+  /**
+   * 테스트 데이터 입력
+   *
+   * @param dataSource data source
+   * @param seeder     테스트 데이터 입력 기능. {@link #seed(String, String, String)} 까지 호출
+   * @apiNote runner 유형별로 처음 한 번만 테스트 데이터를 입력하고 snapshot 을 생성<br>
+   *          이후 Application Context 에서는 입력하지 않고 snapshot 을 복원한 후 계정 일련 번호를 설정한다.<br>
+   *          H2 데이터베이스가 아니면 입력하기 전에 {@link IllegalStateException}
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 9:18:40
+   */
+  protected void seedFixture(DataSource dataSource, Runnable seeder) {
+    FixtureSnapshot.checkSupported(dataSource);
+
+    this.fixtureDataSource = dataSource;
+
+    Fixture fixture = FIXTURES.get(getClass());
+
+    if (isNull(fixture)) { // 처음 실행한 Application Context
+      seeder.run();
+
+      FIXTURES.putIfAbsent(getClass(), new Fixture(FixtureSnapshot.capture(dataSource),
+          getUserId(), getManagerId(), getMightyId()));
+
+      return;
+    }
+
+    fixture.snapshot().restore(dataSource);
+    seed(fixture.userId(), fixture.managerId(), fixture.mightyId());
+  }
+
+  /**
+   * 테스트 데이터 복원
+   *
+   * @apiNote {@link #seedFixture(DataSource, Runnable)} 로 생성한 snapshot 으로 데이터베이스를 복원<br>
+   *          비동기 작업이나 commit 때문에 rollback 을 사용할 수 없는 테스트 클래스에서 사용<br>
+   *          진행 중인 transaction 이 없을 때 호출해야 하므로 {@link RestoreFixture} 를 사용하고,
+   *          같은 데이터베이스를 사용하는 테스트 클래스를 병렬로 실행하는 경우에는 사용할 수 없다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 9:18:40
+   */
+  public void restoreFixture() {
+    Fixture fixture = FIXTURES.get(getClass());
+
+    if (isNull(fixture) || isNull(fixtureDataSource)) {
+      throw new IllegalStateException("Fixture is not seeded by seedFixture(DataSource, Runnable)");
+    }
+
+    fixture.snapshot().restore(fixtureDataSource);
+    seed(fixture.userId(), fixture.managerId(), fixture.mightyId());
+  }
+
+  /**
+   * ROLE_USER 계정 일련 번호 조회
+   *
+   * @return user id
+   * @apiNote {@link #seed(String, String, String)} 로 설정하지 않은 경우 정적 변수 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:41:09
+   */
+  public String getUserId() {
+    return isNull(seededUserId) ? userId : seededUserId;
+  }
+
+  /**
+   * ROLE_MANAGER_MINOR 계정 일련 번호 조회
+   *
+   * @return manager id
+   * @apiNote {@link #seed(String, String, String)} 로 설정하지 않은 경우 정적 변수 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:41:09
+   */
+  public String getManagerId() {
+    return isNull(seededManagerId) ? managerId : seededManagerId;
+  }
+
+  /**
+   * ROLE_MANAGER_MAJOR 계정 일련 번호 조회
+   *
+   * @return mighty id
+   * @apiNote {@link #seed(String, String, String)} 로 설정하지 않은 경우 정적 변수 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:41:09
+   */
+  public String getMightyId() {
+    return isNull(seededMightyId) ? mightyId : seededMightyId;
+  }
+
+  /**
+   * 테스트 데이터
+   *
+   * @param snapshot  데이터베이스 snapshot
+   * @param userId    ROLE_USER 계정 일련 번호
+   * @param managerId ROLE_MANAGER_MINOR 계정 일련 번호
+   * @param mightyId  ROLE_MANAGER_MAJOR 계정 일련 번호
+   * @author FreshR
+   * @apiNote snapshot 과 snapshot 에 포함된 계정 일련 번호
+   * @since 2026. 10. 17. 오후 9:18:40
+   */
+  private record Fixture(FixtureSnapshot snapshot, String userId, String managerId,
+                         String mightyId) {
+
+  }
+
 }
@@ -0,0 +1,154 @@
+package run.freshr.common.extensions;
+
+import static java.util.Objects.isNull;
+import static run.freshr.common.security.TokenProvider.signedId;
+import static run.freshr.common.security.TokenProvider.signedRole;
+import static run.freshr.common.utils.ThreadUtil.threadAccess;
+import static run.freshr.common.utils.ThreadUtil.threadPublicKey;
+import static run.freshr.common.utils.ThreadUtil.threadRefresh;
+import static run.freshr.domain.auth.enumerations.Role.ROLE_ANONYMOUS;
+
+import java.time.Duration;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import run.freshr.common.metrics.TestMetrics;
+import run.freshr.common.utils.RsaKeyPool;
+import run.freshr.common.utils.TokenCache;
+import run.freshr.common.utils.TokenCache.Token;
+import run.freshr.domain.auth.enumerations.Role;
+import run.freshr.service.TestSecurityServiceAware;
+
+/**
+ * 공통 보안 기능
+ *
+ * @author FreshR
+ * @apiNote {@link TestSecurityAware} 의 기본 구현이 사용하는 보안 기능<br>
+ *          Application Context 구성과 상관없이 service 로 인증 정보를 생성한다.
+ * @since 2026. 10. 18. 오전 4:05:37
+ */
+final class TestSecuritySupport {
+
+  /**
+   * 생성자
+   *
+   * @apiNote 정적 기능만 제공
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 4:05:37
+   */
+  private TestSecuritySupport() {
+  }
+
+  /**
+   * 인증 정보 설정
+   *
+   * @param test    테스트 인스턴스
+   * @param service 보안 service
+   * @param ttl     토큰 캐시 유효 시간
+   * @param id      일련 번호
+   * @param role    권한
+   * @apiNote 인증 정보 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  static void authentication(TestSecurityAware<?, ?> test, TestSecurityServiceAware service,
+      Duration ttl, String id, Role role) {
+    long start = TestMetrics.start();
+
+    try {
+      test.removeSigned(); // 로그아웃 처리
+
+      if (!role.equals(ROLE_ANONYMOUS)) { // 게스트 권한이 아닐 경우
+        issueToken(test, service, ttl, id, role); // 토큰 발급 및 등록
+      }
+
+      signedRole.set(role); // 로그인한 계정 권한 설정
+      signedId.set(id); // 로그인한 계정 일련 번호 설정
+
+      SecurityContextHolder // 일회용 로그인 설정
+          .getContext()
+          .setAuthentication(new UsernamePasswordAuthenticationToken(
+              role.getPrivilege(),
+              "{noop}",
+              AuthorityUtils.createAuthorityList(role.getKey())
+          ));
+    } finally {
+      TestMetrics.stop(test.getClass(), TestMetrics.PHASE_AUTHENTICATION, start);
+    }
+  }
+
+  /**
+   * 토큰 발급
+   *
+   * @param test    테스트 인스턴스
+   * @param service 보안 service
+   * @param ttl     토큰 캐시 유효 시간
+   * @param id      일련 번호
+   * @param role    권한
+   * @apiNote 유효 시간이 0 보다 큰 경우 발급한 토큰을 유효 시간 동안 재사용<br>
+   *          재사용하는 경우 service 를 호출하지 않고 access & refresh token 만 다시 설정한다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  private static void issueToken(TestSecurityAware<?, ?> test, TestSecurityServiceAware service,
+      Duration ttl, String id, Role role) {
+    if (ttl.isZero() || ttl.isNegative()) { // 캐시를 사용하지 않는 경우
+      createAuth(test, service, id, role);
+
+      return;
+    }
+
+    TokenCache tokenCache = TokenCache.of(service);
+    Token token = tokenCache.get(id, role);
+
+    if (!isNull(token)) { // 발급한 토큰 재사용
+      threadAccess.set(token.access());
+      threadRefresh.set(token.refresh());
+      TestMetrics.increment(test.getClass(), TestMetrics.COUNTER_TOKEN_CACHE_HIT);
+
+      return;
+    }
+
+    createAuth(test, service, id, role);
+    tokenCache.put(id, role, threadAccess.get(), threadRefresh.get(), ttl);
+  }
+
+  /**
+   * 토큰 발급
+   *
+   * @param test    테스트 인스턴스
+   * @param service 보안 service
+   * @param id      일련 번호
+   * @param role    권한
+   * @apiNote service 로 토큰을 발급하고 {@link TestMetrics#PHASE_TOKEN} 구간으로 측정
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  private static void createAuth(TestSecurityAware<?, ?> test, TestSecurityServiceAware service,
+      String id, Role role) {
+    long start = TestMetrics.start();
+
+    try {
+      service.createAuth(id, role);
+    } finally {
+      TestMetrics.stop(test.getClass(), TestMetrics.PHASE_TOKEN, start);
+      TestMetrics.increment(test.getClass(), TestMetrics.COUNTER_TOKEN_ISSUED);
+    }
+  }
+
+  /**
+   * RSA 정보 생성
+   *
+   * @param service 보안 service
+   * @apiNote {@link RsaKeyPool} 에서 한 번만 생성한 키를 service 에 전달<br>
+   *          service 가 전달받은 키를 사용한 경우에만 공개키를 설정하고, 아니면 service 가 생성한 키를 그대로 둔다.
+   * @author FreshR
+   * @since 2024. 4. 2. 오후 3:38:05
+   */
+  static void setRsa(TestSecurityServiceAware service) {
+    if (service.createRsa(RsaKeyPool.get())) {
+      threadPublicKey.set(RsaKeyPool.getPublicKey());
+    }
+  }
+
+}
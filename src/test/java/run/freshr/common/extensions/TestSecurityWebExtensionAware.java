@@ -0,0 +1,35 @@
+package run.freshr.common.extensions;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import run.freshr.service.TestSecurityServiceAware;
+
+/**
+ * 공통 web 보안 기능 정의
+ *
+ * @author FreshR
+ * @apiNote {@link TestWebExtensionAware} 에 {@link TestSecurityAware} 보안 기능을 추가<br>
+ *          {@link DocsWebMvcTest} 처럼 web 계층만 읽는 테스트에서 인증 정보를 설정할 때 사용<br>
+ *          service 는 {@code @MockBean} 이나 {@code @Import} 로 등록하고, 데이터베이스를 읽지 않으므로
+ *          테스트 데이터 복원 기능은 제공하지 않는다.
+ * @since 2026. 10. 18. 오전 4:05:37
+ */
+public abstract class TestSecurityWebExtensionAware
+    <S extends TestSecurityServiceAware, R extends TestSecurityRunnerAware>
+    extends TestWebExtensionAware implements TestSecurityAware<S, R> {
+
+  @Autowired
+  protected S service;
+  @Autowired(required = false)
+  protected R runner;
+
+  @Override
+  public S getService() {
+    return service;
+  }
+
+  @Override
+  public R getRunner() {
+    return runner;
+  }
+
+}
@@ -0,0 +1,137 @@
+package run.freshr.common.extensions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static run.freshr.common.utils.ThreadUtil.threadAccess;
+import static run.freshr.common.utils.ThreadUtil.threadRefresh;
+
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import run.freshr.domain.auth.enumerations.Role;
+import run.freshr.service.TestSecurityServiceAware;
+
+/**
+ * {@link TestSecurityWebExtensionAware} 확인
+ *
+ * @author FreshR
+ * @apiNote {@link DocsWebMvcTest} 로 web 계층만 읽은 Application Context 에서 인증 정보를 설정하고
+ *          요청 & 문서 작성 확인
+ * @since 2026. 10. 18. 오전 4:05:37
+ */
+@DocsWebMvcTest
+@ContextConfiguration(classes = TestSecurityWebExtensionAwareTests.Config.class)
+class TestSecurityWebExtensionAwareTests extends
+    TestSecurityWebExtensionAware<TestSecurityWebExtensionAwareTests.Service,
+        TestSecurityWebExtensionAwareTests.Runner> {
+
+  @Test
+  @DisplayName("인증 정보를 설정한 요청으로 문서 작성")
+  void signedRequest(RestDocumentationContextProvider restDocumentation) throws Exception {
+    setSignedUser();
+
+    GET("/echo")
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.authorization").value("Bearer access-user"))
+        .andDo(docs(ResourceSnippetParameters.builder().summary("echo").build()));
+
+    Path request = restDocumentation.beforeOperation().getOutputDirectory().toPath()
+        .resolve("test-security-web-extension-aware-tests/signed-request/http-request.adoc");
+
+    assertThat(getSignedId()).isEqualTo("user");
+    assertThat(Files.readString(request, StandardCharsets.UTF_8))
+        .contains("Authorization: Bearer access-user");
+  }
+
+  /**
+   * 테스트 설정
+   *
+   * @author FreshR
+   * @apiNote controller 와 보안 service, runner 만 등록
+   * @since 2026. 10. 18. 오전 4:05:37
+   */
+  @Configuration
+  @Import(EchoController.class)
+  static class Config {
+
+    @Bean
+    Service service() {
+      return new Service();
+    }
+
+    @Bean
+    Runner runner() {
+      return new Runner();
+    }
+
+  }
+
+  /**
+   * 요청 header 반환 controller
+   *
+   * @author FreshR
+   * @apiNote 요청의 Authorization header 반환
+   * @since 2026. 10. 18. 오전 4:05:37
+   */
+  @RestController
+  static class EchoController {
+
+    @GetMapping("/echo")
+    Map<String, String> echo(@RequestHeader("Authorization") String authorization) {
+      return Map.of("authorization", authorization);
+    }
+
+  }
+
+  /**
+   * 보안 service
+   *
+   * @author FreshR
+   * @apiNote 일련 번호로 만든 토큰 발급
+   * @since 2026. 10. 18. 오전 4:05:37
+   */
+  static class Service implements TestSecurityServiceAware {
+
+    @Override
+    public void createRsa() {
+    }
+
+    @Override
+    public void createAuth(String id, Role role) {
+      threadAccess.set("access-" + id);
+      threadRefresh.set("refresh-" + id);
+    }
+
+  }
+
+  /**
+   * test runner
+   *
+   * @author FreshR
+   * @apiNote 계정 일련 번호 설정
+   * @since 2026. 10. 18. 오전 4:05:37
+   */
+  static class Runner extends TestSecurityRunnerAware {
+
+    @Override
+    public void run(ApplicationArguments args) {
+      seed("user", "manager", "mighty");
+    }
+
+  }
+
+}
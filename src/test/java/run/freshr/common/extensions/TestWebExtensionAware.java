@@ -0,0 +1,778 @@
+package run.freshr.common.extensions;
+
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static java.util.Objects.isNull;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.multipart;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessRequest;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessResponse;
+import static org.springframework.util.StringUtils.hasLength;
+import static run.freshr.common.security.TokenProvider.signedId;
+import static run.freshr.common.security.TokenProvider.signedRole;
+import static run.freshr.common.utils.ThreadUtil.threadAccess;
+import static run.freshr.common.utils.ThreadUtil.threadRefresh;
+
+import com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper;
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultHandler;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.filter.CharacterEncodingFilter;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import run.freshr.common.docs.ArrayTruncatingContentModifier;
+import run.freshr.common.docs.AsyncWriterConfigurer;
+import run.freshr.common.docs.AsyncWriterResolver;
+import run.freshr.common.docs.DocsPreprocessor;
+import run.freshr.common.docs.FingerprintResultHandler;
+import run.freshr.common.docs.ResponseCaptureResultHandler;
+import run.freshr.common.docs.ResponseCaptureSnippet;
+import run.freshr.common.extensions.request.SearchExtension;
+import run.freshr.common.metrics.TestMetrics;
+import run.freshr.common.utils.ParameterBinder;
+import run.freshr.common.utils.RequestBodyEncoder;
+import run.freshr.common.utils.ThreadUtil;
+import run.freshr.domain.auth.enumerations.Role;
+
+/**
+ * 공통 web 테스트 설정 및 기능을 정의
+ *
+ * @author FreshR
+ * @apiNote 요청, 문서 작성 등 Application Context 구성과 상관없는 공통 테스트 기능을 정의<br>
+ *          {@link SpringBootTest} 를 선언하지 않으므로 {@link DocsWebMvcTest} 처럼
+ *          web 계층만 읽는 설정과 함께 사용할 수 있다.<br>
+ *          인증 정보는 thread 별로 관리하므로 JUnit 병렬 실행으로 테스트 클래스를 동시에 실행할 수 있다.<br>
+ *          같은 클래스의 테스트를 같은 thread 에서 실행하는 것은 {@link TestInstance.Lifecycle#PER_CLASS} 가 아니라
+ *          병렬 실행 mode 가 결정하므로 {@code junit.jupiter.execution.parallel.mode.default=same_thread},
+ *          {@code junit.jupiter.execution.parallel.mode.classes.default=concurrent} 로 설정한다.<br>
+ *          {@code freshr.docs.enabled=false} 또는 {@code docs-off} profile 로 실행하면 문서를 작성하지 않는다.<br>
+ *          요청 기능과 문서 작성은 {@link TestMetrics} 로 구간별 소요 시간을 기록한다.
+ * @since 2024. 3. 29. 오후 3:13:42
+ */
+@ExtendWith({RestDocumentationExtension.class, SpringExtension.class,
+    SnippetFlushExtension.class, ContextCacheGuardExtension.class, TestMetricsExtension.class})
+@TestInstance(PER_CLASS)
+public abstract class TestWebExtensionAware {
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private MockMvc mockMvc;
+  private RequestBodyEncoder requestBodyEncoder;
+  private DocsPreprocessor docsPreprocessor = DocsPreprocessor.defaults();
+  private boolean docsEnabled = true;
+  private boolean docsAsyncWrite = false;
+  private boolean docsSkipUnchanged = false;
+  private int docsMultipartPreviewSize = DEFAULT_MULTIPART_PREVIEW_SIZE;
+  private int docsResponseMaxSize = -1;
+  private int docsArrayMaxElements = DocsPreprocessor.DEFAULT_MAX_ARRAY_ELEMENTS;
+
+  private final String DOCS_PATH = "{class-name}/{method-name}";
+
+  private static final String MOCK_MVC_ATTRIBUTE =
+      TestWebExtensionAware.class.getName() + ".MOCK_MVC"; // Application Context 별 재사용 MockMvc
+  private static final RebindableRestDocumentation REBINDABLE_DOCUMENTATION =
+      new RebindableRestDocumentation(); // 재사용 MockMvc 의 문서 출력 설정
+  private static final String DOCS_ENABLED_PROPERTY =
+      "freshr.docs.enabled"; // 문서 작성 여부 (false 는 문서 작성 생략)
+  private static final String DOCS_OFF_PROFILE = "docs-off"; // 문서 작성 생략 profile
+  private static final ResultHandler NO_DOCS = result -> {
+  }; // 문서 작성 생략 시 사용할 result handler
+  private static final String DOCS_ASYNC_WRITE_PROPERTY =
+      "freshr.docs.async-write"; // snippet 을 background thread 에서 저장할지 여부
+  private static final String DOCS_SKIP_UNCHANGED_PROPERTY =
+      "freshr.docs.skip-unchanged"; // fingerprint 가 같은 문서는 다시 작성하지 않을지 여부
+  private static final AsyncWriterConfigurer ASYNC_WRITER_CONFIGURER =
+      new AsyncWriterConfigurer(); // background thread snippet 저장 기능
+  private static final String PRETTY_PRINT_MAX_SIZE_PROPERTY =
+      "freshr.docs.pretty-print.max-size"; // pretty print 최대 크기 (byte, 음수는 미사용)
+  private static final String ARRAY_MAX_ELEMENTS_PROPERTY =
+      "freshr.docs.array.max-elements"; // 문서에 남길 배열 최대 요소 수 (0 은 생략하지 않음)
+  private static final String MULTIPART_PREVIEW_SIZE_PROPERTY =
+      "freshr.docs.multipart.preview-size"; // 문서에 남길 streaming 파일 최대 크기 (byte, 음수는 전체)
+  private static final int DEFAULT_MULTIPART_PREVIEW_SIZE = 1024; // 문서에 남길 streaming 파일 기본 크기
+  private static final String RESPONSE_MAX_SIZE_PROPERTY =
+      "freshr.docs.response.max-size"; // 문서에 남길 응답 body 최대 크기 (byte, 음수는 전체)
+
+  @BeforeEach
+  public void beforeEach(WebApplicationContext webApplicationContext,
+      RestDocumentationContextProvider restDocumentation) {
+    Environment environment = webApplicationContext.getEnvironment();
+
+    this.docsEnabled = environment.getProperty(DOCS_ENABLED_PROPERTY, Boolean.class, true)
+        && !environment.acceptsProfiles(Profiles.of(DOCS_OFF_PROFILE));
+
+    if (!docsEnabled) { // 문서 출력 설정 없이 MockMvc 생성
+      this.mockMvc = reuseMockMvc()
+          ? getSharedMockMvc(webApplicationContext)
+          : createMockMvc(webApplicationContext, null);
+
+      return;
+    }
+
+    this.docsAsyncWrite = environment.getProperty(DOCS_ASYNC_WRITE_PROPERTY, Boolean.class,
+        false);
+    this.docsSkipUnchanged = environment.getProperty(DOCS_SKIP_UNCHANGED_PROPERTY, Boolean.class,
+        false);
+    this.docsArrayMaxElements = environment.getProperty(ARRAY_MAX_ELEMENTS_PROPERTY,
+        Integer.class, DocsPreprocessor.DEFAULT_MAX_ARRAY_ELEMENTS);
+    this.docsPreprocessor = new DocsPreprocessor(
+        environment.getProperty(PRETTY_PRINT_MAX_SIZE_PROPERTY, Integer.class,
+            DocsPreprocessor.DEFAULT_MAX_PRETTY_PRINT_SIZE),
+        docsArrayMaxElements);
+    this.docsMultipartPreviewSize = environment.getProperty(MULTIPART_PREVIEW_SIZE_PROPERTY,
+        Integer.class, DEFAULT_MULTIPART_PREVIEW_SIZE);
+    this.docsResponseMaxSize = environment.getProperty(RESPONSE_MAX_SIZE_PROPERTY, Integer.class,
+        -1);
+
+    if (reuseMockMvc()) {
+      REBINDABLE_DOCUMENTATION.bind(restDocumentation); // 현재 테스트의 문서 출력 설정으로 교체
+
+      this.mockMvc = getSharedMockMvc(webApplicationContext);
+    } else {
+      this.mockMvc = createMockMvc(webApplicationContext, restDocumentation);
+    }
+  }
+
+  /**
+   * 테스트 클래스 종료
+   *
+   * @apiNote 테스트 클래스를 실행한 thread 의 인증 정보와 재사용 MockMvc 의 문서 출력 설정 제거<br>
+   *          병렬 실행에서 같은 thread 가 다음 테스트 클래스를 실행해도 이전 정보가 남지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:41:09
+   */
+  @AfterAll
+  public void afterAll() {
+    ThreadUtil.clear();
+    REBINDABLE_DOCUMENTATION.unbind();
+  }
+
+  /**
+   * MockMvc 재사용 여부
+   *
+   * @return boolean
+   * @apiNote TRUE 인 경우 Application Context 별로 MockMvc 를 한 번만 생성하고<br>
+   *          테스트마다 {@link RestDocumentationContextProvider} 만 교체한다.<br>
+   *          MockMvc 설정을 테스트마다 변경하지 않는 경우에만 재정의해서 사용
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 3:02:40
+   */
+  protected boolean reuseMockMvc() {
+    return false;
+  }
+
+  /**
+   * 재사용 MockMvc 조회
+   *
+   * @param webApplicationContext web application context
+   * @return mock mvc
+   * @apiNote Application Context 의 ServletContext 에 저장한 MockMvc 조회<br>
+   *          없는 경우 생성해서 저장하므로 Application Context 가 종료되면 함께 정리된다.<br>
+   *          문서 작성 여부는 Application Context 의 설정이므로 같은 Application Context 에서는 바뀌지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 3:02:40
+   */
+  private MockMvc getSharedMockMvc(WebApplicationContext webApplicationContext) {
+    ServletContext servletContext = webApplicationContext.getServletContext();
+
+    synchronized (servletContext) {
+      MockMvc sharedMockMvc = (MockMvc) servletContext.getAttribute(MOCK_MVC_ATTRIBUTE);
+
+      if (isNull(sharedMockMvc)) {
+        sharedMockMvc = createMockMvc(webApplicationContext,
+            docsEnabled ? REBINDABLE_DOCUMENTATION : null);
+
+        servletContext.setAttribute(MOCK_MVC_ATTRIBUTE, sharedMockMvc);
+      }
+
+      return sharedMockMvc;
+    }
+  }
+
+  /**
+   * MockMvc 생성
+   *
+   * @param webApplicationContext web application context
+   * @param restDocumentation     rest documentation
+   * @return mock mvc
+   * @apiNote MockMvc 공통 설정. 문서 출력 설정<br>
+   *          rest documentation 이 null 인 경우 문서 출력 설정 생략<br>
+   *          {@code freshr.docs.async-write=true} 인 경우 snippet 은 {@link AsyncWriterResolver} 로 저장
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 3:02:40
+   */
+  private MockMvc createMockMvc(WebApplicationContext webApplicationContext,
+      RestDocumentationContextProvider restDocumentation) {
+    DefaultMockMvcBuilder builder = MockMvcBuilders
+        .webAppContextSetup(webApplicationContext)
+        .addFilter(new CharacterEncodingFilter("UTF-8", true));
+
+    if (!isNull(restDocumentation)) {
+      builder.apply(documentationConfiguration(restDocumentation));
+
+      if (docsAsyncWrite) { // RestDocs 설정 다음에 적용
+        builder.apply(ASYNC_WRITER_CONFIGURER);
+      }
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * 요청 body 변환 기능 조회
+   *
+   * @return request body encoder
+   * @apiNote 주입받은 {@link ObjectMapper} 로 처음 사용할 때 한 번만 생성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 6:15:37
+   */
+  private RequestBodyEncoder getRequestBodyEncoder() {
+    if (isNull(requestBodyEncoder)) {
+      requestBodyEncoder = new RequestBodyEncoder(objectMapper);
+    }
+
+    return requestBodyEncoder;
+  }
+
+  /**
+   * 요청 body 변환
+   *
+   * @param content 요청 body 데이터
+   * @return byte [ ]
+   * @throws JsonProcessingException json processing exception
+   * @apiNote {@link TestMetrics#PHASE_JSON} 구간으로 측정
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  private byte[] encode(Object content) throws JsonProcessingException {
+    long start = TestMetrics.start();
+
+    try {
+      return getRequestBodyEncoder().encode(content);
+    } finally {
+      TestMetrics.stop(getClass(), TestMetrics.PHASE_JSON, start);
+    }
+  }
+
+  /**
+   * 요청 실행
+   *
+   * @param mockHttpServletRequestBuilder 요청 정보 builder
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote {@link TestMetrics#PHASE_DISPATCH} 구간으로 측정<br>
+   *          문서 작성은 요청 실행 이후 {@link #docs(ResourceSnippetParameters)} 에서 측정
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  private ResultActions perform(MockHttpServletRequestBuilder mockHttpServletRequestBuilder)
+      throws Exception {
+    long start = TestMetrics.start();
+
+    try {
+      return mockMvc.perform(mockHttpServletRequestBuilder);
+    } finally {
+      TestMetrics.stop(getClass(), TestMetrics.PHASE_DISPATCH, start);
+    }
+  }
+
+  /**
+   * Request Header 설정
+   *
+   * @param mockHttpServletRequestBuilder 요청 정보 builder
+   * @return header
+   * @apiNote 기본적인 Request Header 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  private MockHttpServletRequestBuilder setHeader(
+      MockHttpServletRequestBuilder mockHttpServletRequestBuilder) {
+    return setHeader(mockHttpServletRequestBuilder, threadAccess.get());
+  }
+
+  /**
+   * Request Header 설정
+   *
+   * @param mockHttpServletRequestBuilder mock http servlet request builder
+   * @param token                         token
+   * @return header
+   * @apiNote Request Header 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  private MockHttpServletRequestBuilder setHeader(
+      MockHttpServletRequestBuilder mockHttpServletRequestBuilder, String token) {
+    if (hasLength(token)) {
+      mockHttpServletRequestBuilder.header("Authorization", "Bearer " + token);
+    }
+
+    return mockHttpServletRequestBuilder
+        .contentType(APPLICATION_JSON)
+        .accept(APPLICATION_JSON);
+  }
+
+  /**
+   * Multipart Request Header 설정
+   *
+   * @param mockHttpServletRequestBuilder 요청 정보 builder
+   * @return multipart
+   * @apiNote multipart/form-data 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  private MockHttpServletRequestBuilder setMultipartHeader(
+      MockHttpServletRequestBuilder mockHttpServletRequestBuilder) {
+    return setMultipartHeader(mockHttpServletRequestBuilder, threadAccess.get());
+  }
+
+  /**
+   * Multipart Request Header 설정
+   *
+   * @param mockHttpServletRequestBuilder 요청 정보 builder
+   * @return multipart
+   * @apiNote multipart/form-data 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  private MockHttpServletRequestBuilder setMultipartHeader(
+      MockHttpServletRequestBuilder mockHttpServletRequestBuilder, String token) {
+    if (hasLength(token)) {
+      mockHttpServletRequestBuilder.header("Authorization", "Bearer " + token);
+    }
+
+    return mockHttpServletRequestBuilder
+        .contentType(MULTIPART_FORM_DATA)
+        .accept(APPLICATION_JSON);
+  }
+
+  /**
+   * GET 통신
+   *
+   * @param uri           URI 정보
+   * @param pathVariables path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote Path Parameter 외에 설정한 정보가 없는 통신
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public ResultActions GET(String uri, Object... pathVariables) throws Exception {
+    long start = TestMetrics.start();
+
+    try {
+      return getParam(uri, null, pathVariables);
+    } finally {
+      TestMetrics.stop(getClass(), "GET", start);
+    }
+  }
+
+  /**
+   * GET 통신
+   *
+   * @param <T>           요청 query string 데이터 유형
+   * @param uri           URI 정보
+   * @param search        요청 query string 데이터
+   * @param pathVariables path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote Request Parameter 설정<br>
+   *          요청 query string 데이터는 {@link ParameterBinder} 로 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public <T extends SearchExtension<?>> ResultActions GET_PARAM(String uri, T search,
+      Object... pathVariables) throws Exception {
+    long start = TestMetrics.start();
+
+    try {
+      return getParam(uri, search, pathVariables);
+    } finally {
+      TestMetrics.stop(getClass(), "GET_PARAM", start);
+    }
+  }
+
+  /**
+   * GET 통신
+   *
+   * @param <T>           요청 query string 데이터 유형
+   * @param uri           URI 정보
+   * @param search        요청 query string 데이터
+   * @param pathVariables path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote {@link #GET(String, Object...)}, {@link #GET_PARAM(String, SearchExtension, Object...)}
+   *          공통 기능
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  private <T extends SearchExtension<?>> ResultActions getParam(String uri, T search,
+      Object... pathVariables) throws Exception {
+    MockHttpServletRequestBuilder header = get(uri, pathVariables);
+
+    if (!isNull(search)) {
+      ParameterBinder.of(search.getClass()).bind(search, header);
+    }
+
+    return perform(setHeader(header));
+  }
+
+  /**
+   * POST 통신
+   *
+   * @param uri           URI 정보
+   * @param pathVariables path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote Path Parameter 외에 설정한 정보가 없는 통신
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public ResultActions POST(String uri, Object... pathVariables) throws Exception {
+    return POST_BODY(uri, null, pathVariables);
+  }
+
+  /**
+   * POST 통신
+   *
+   * @param <T>           요청 body 데이터 유형
+   * @param uri           URI 정보
+   * @param content       요청 body 데이터
+   * @param pathVariables path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote Request Body 를 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public <T> ResultActions POST_BODY(String uri, T content, Object... pathVariables)
+      throws Exception {
+    long start = TestMetrics.start();
+
+    try {
+      MockHttpServletRequestBuilder header = setHeader(post(uri, pathVariables));
+
+      if (!isNull(content)) {
+        header.content(encode(content));
+      }
+
+      return perform(header);
+    } finally {
+      TestMetrics.stop(getClass(), "POST_BODY", start);
+    }
+  }
+
+  /**
+   * POST 통신
+   *
+   * @param uri           URI 정보
+   * @param token         설정할 토큰 정보
+   * @param pathVariables path variables
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote Authorization 에 JWT 토큰을 따로 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public ResultActions POST_TOKEN(String uri, String token, Object... pathVariables)
+      throws Exception {
+    return POST_TOKEN_BODY(uri, token, null, pathVariables);
+  }
+
+  /**
+   * POST 통신
+   *
+   * @param <T>           type parameter
+   * @param uri           URI 정보
+   * @param token         설정할 토큰 정보
+   * @param content       요청 body 데이터
+   * @param pathVariables path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote Authorization 에 JWT 토큰을 따로 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public <T> ResultActions POST_TOKEN_BODY(String uri, String token, T content,
+      Object... pathVariables)
+      throws Exception {
+    long start = TestMetrics.start();
+
+    try {
+      MockHttpServletRequestBuilder header = setHeader(post(uri, pathVariables), token);
+
+      if (!isNull(content)) {
+        header.content(encode(content));
+      }
+
+      return perform(header);
+    } finally {
+      TestMetrics.stop(getClass(), "POST_TOKEN_BODY", start);
+    }
+  }
+
+  /**
+   * POST 통신
+   *
+   * @param uri               URI 정보
+   * @param directory         저장할 directory 이름
+   * @param mockMultipartFile 파일 데이터
+   * @param pathVariables     path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote Multipart 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public ResultActions POST_MULTIPART(String uri, String directory,
+      MockMultipartFile mockMultipartFile, Object... pathVariables) throws Exception {
+    long start = TestMetrics.start();
+
+    try {
+      MockMultipartHttpServletRequestBuilder file = multipart(uri, pathVariables)
+          .file(mockMultipartFile);
+
+      if (hasLength(directory)) {
+        file.param("directory", directory);
+      }
+
+      return perform(setMultipartHeader(file));
+    } finally {
+      TestMetrics.stop(getClass(), "POST_MULTIPART", start);
+    }
+  }
+
+  /**
+   * POST 통신
+   *
+   * @param uri           URI 정보
+   * @param content       Multipart 요청 데이터
+   * @param pathVariables path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote 여러 파일, part, parameter 를 Multipart 로 요청<br>
+   *          파일은 {@link StreamingMultipartFile} 로 전달하므로 큰 파일도 메모리에 올리지 않는다.<br>
+   *          문서에는 {@code freshr.docs.multipart.preview-size} 크기까지만 파일 내용을 작성<br>
+   *          {@code POST_MULTIPART(uri, null, file)} 호출이 모호해지지 않도록 이름을 구분한다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  public ResultActions POST_MULTIPART_CONTENT(String uri, MultipartContent content,
+      Object... pathVariables) throws Exception {
+    long start = TestMetrics.start();
+
+    try {
+      return perform(setMultipartHeader(content.apply(multipart(uri, pathVariables))));
+    } finally {
+      TestMetrics.stop(getClass(), "POST_MULTIPART_CONTENT", start);
+    }
+  }
+
+  /**
+   * PUT 통신
+   *
+   * @param uri           URI 정보
+   * @param pathVariables path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote Path Parameter 외에 설정한 정보가 없는 통신
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public ResultActions PUT(String uri, Object... pathVariables) throws Exception {
+    return PUT_BODY(uri, null, pathVariables);
+  }
+
+  /**
+   * PUT 통신
+   *
+   * @param <T>           요청 body 데이터 유형
+   * @param uri           URI 정보
+   * @param content       요청 body 데이터
+   * @param pathVariables path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote Request Body 를 설정
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public <T> ResultActions PUT_BODY(String uri, T content, Object... pathVariables)
+      throws Exception {
+    long start = TestMetrics.start();
+
+    try {
+      MockHttpServletRequestBuilder header = setHeader(put(uri, pathVariables));
+
+      if (!isNull(content)) {
+        header.content(encode(content));
+      }
+
+      return perform(header);
+    } finally {
+      TestMetrics.stop(getClass(), "PUT_BODY", start);
+    }
+  }
+
+  /**
+   * DELETE 통신
+   *
+   * @param uri           URI 정보
+   * @param pathVariables path parameter 값 목록
+   * @return result actions
+   * @throws Exception exception
+   * @apiNote Path Parameter 외에 설정한 정보가 없는 통신
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public ResultActions DELETE(String uri, Object... pathVariables) throws Exception {
+    long start = TestMetrics.start();
+
+    try {
+      return perform(setHeader(delete(uri, pathVariables)));
+    } finally {
+      TestMetrics.stop(getClass(), "DELETE", start);
+    }
+  }
+
+  /**
+   * Document 작성
+   *
+   * @param snippets 문서 구성 요소
+   * @return result handler
+   * @apiNote 코드를 조금이라도 짧게 만들고 싶어서 만든 기능...⭐<br>
+   *          요청 & 응답 body 는 {@link DocsPreprocessor} 로 처리<br>
+   *          문서 작성을 생략하는 경우 {@link RestDocumentationResultHandler} 를 만들지 않고
+   *          아무것도 하지 않는 {@link ResultHandler} 반환<br>
+   *          추가 기능으로 감싸므로 {@link RestDocumentationResultHandler} 가 아닌 {@link ResultHandler} 반환<br>
+   *          {@code freshr.docs.skip-unchanged=true} 인 경우 {@link FingerprintResultHandler} 로
+   *          요청, 응답, 문서 구성 요소가 바뀐 문서만 작성<br>
+   *          {@link TestMetrics} 로 기록하는 경우 snippet 작성을 {@link TestMetrics#PHASE_DOCS} 구간으로 측정<br>
+   *          {@link StreamingMultipartFile} 은 문서 작성 중에만 앞부분만 읽도록 설정<br>
+   *          {@code freshr.docs.response.max-size} 를 설정한 경우 {@link ResponseCaptureResultHandler} 로
+   *          최대 크기를 넘는 응답 body 는 앞부분만 문서에 작성하고,
+   *          {@link ResponseCaptureSnippet} 으로 원본 크기와 SHA-256 을 별도 snippet 에 작성
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public ResultHandler docs(ResourceSnippetParameters snippets) {
+    if (!docsEnabled) {
+      return NO_DOCS;
+    }
+
+    RestDocumentationResultHandler documentation = MockMvcRestDocumentationWrapper.document(
+        DOCS_PATH, preprocessRequest(docsPreprocessor), preprocessResponse(docsPreprocessor),
+        resource(snippets), new ResponseCaptureSnippet());
+    ResultHandler handler = docsResponseMaxSize >= 0
+        ? new ResponseCaptureResultHandler(documentation, docsResponseMaxSize,
+        docsArrayMaxElements > 0 ? new ArrayTruncatingContentModifier(docsArrayMaxElements) : null)
+        : documentation;
+    ResultHandler fingerprint = docsSkipUnchanged
+        ? new FingerprintResultHandler(handler, DOCS_PATH, snippets, docsPreprocessor)
+        : handler;
+    Class<?> owner = getClass();
+    int previewSize = docsMultipartPreviewSize;
+
+    return result -> {
+      long start = TestMetrics.start();
+      List<StreamingMultipartFile> streamingFiles = getStreamingFiles(result.getRequest());
+
+      streamingFiles.forEach(file -> file.setPreviewSize(previewSize));
+
+      try {
+        fingerprint.handle(result);
+      } finally {
+        streamingFiles.forEach(file -> file.setPreviewSize(-1));
+        TestMetrics.stop(owner, TestMetrics.PHASE_DOCS, start);
+      }
+    };
+  }
+
+  /**
+   * streaming 파일 목록 조회
+   *
+   * @param request 요청 정보
+   * @return list
+   * @apiNote Multipart 요청의 {@link StreamingMultipartFile} 목록. 없으면 빈 목록
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 11:32:40
+   */
+  private static List<StreamingMultipartFile> getStreamingFiles(HttpServletRequest request) {
+    if (!(request instanceof MultipartHttpServletRequest multipartRequest)) {
+      return List.of();
+    }
+
+    return multipartRequest.getMultiFileMap().values().stream()
+        .flatMap(List::stream)
+        .filter(StreamingMultipartFile.class::isInstance)
+        .map(StreamingMultipartFile.class::cast)
+        .toList();
+  }
+
+  /**
+   * 계정 일련 번호 조회
+   *
+   * @return signed id
+   * @apiNote 통신중인 계정의 일련 번호 조회
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public String getSignedId() {
+    return signedId.get();
+  }
+
+  /**
+   * 권한 조회
+   *
+   * @return signed role
+   * @apiNote 통신중인 계정의 권한 조회
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public Role getSignedRole() {
+    return signedRole.get();
+  }
+
+  /**
+   * 인증 정보 제거
+   *
+   * @apiNote 통신중인 인증 정보 제거
+   * @author FreshR
+   * @since 2024. 3. 29. 오후 3:13:42
+   */
+  public void removeSigned() {
+    signedRole.remove();
+    signedId.remove();
+    threadAccess.remove();
+    threadRefresh.remove();
+  }
+
+}
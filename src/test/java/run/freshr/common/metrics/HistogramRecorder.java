@@ -0,0 +1,247 @@
+package run.freshr.common.metrics;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * histogram 기록 기능
+ *
+ * @author FreshR
+ * @apiNote 테스트 클래스와 구간 이름별로 소요 시간을 2 배 간격 bucket 에 누적<br>
+ *          {@link #report()} 는 구간별 histogram 과 백분위, 테스트 클래스별 구간 요약, counter 를 출력한다.<br>
+ *          백분위는 bucket 상한 값이므로 최대 2 배까지 크게 표시될 수 있다.
+ * @since 2026. 10. 17. 오후 10:58:06
+ */
+public class HistogramRecorder implements MetricsRecorder {
+
+  private static final int BAR_WIDTH = 40;
+
+  private final Map<MetricKey, Histogram> histograms = new ConcurrentHashMap<>();
+  private final Map<MetricKey, LongAdder> counters = new ConcurrentHashMap<>();
+
+  @Override
+  public void record(Class<?> owner, String phase, long nanos) {
+    histograms.computeIfAbsent(new MetricKey(owner.getName(), phase), key -> new Histogram())
+        .record(nanos);
+  }
+
+  @Override
+  public void increment(Class<?> owner, String counter, long amount) {
+    counters.computeIfAbsent(new MetricKey(owner.getName(), counter), key -> new LongAdder())
+        .add(amount);
+  }
+
+  /**
+   * 결과 출력
+   *
+   * @return string
+   * @apiNote 구간별, 테스트 클래스별, counter 순서로 출력<br>
+   *          기록한 값이 없으면 빈 문자열
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  public String report() {
+    if (histograms.isEmpty() && counters.isEmpty()) {
+      return "";
+    }
+
+    Map<String, Histogram> phases = new TreeMap<>();
+    Map<String, Map<String, Histogram>> classes = new TreeMap<>();
+    Map<String, Long> counterTotals = new TreeMap<>();
+    StringBuilder report = new StringBuilder();
+
+    histograms.forEach((key, histogram) -> {
+      phases.computeIfAbsent(key.name(), name -> new Histogram()).add(histogram);
+      classes.computeIfAbsent(key.owner(), owner -> new TreeMap<>()).put(key.name(), histogram);
+    });
+    counters.forEach((key, counter) -> counterTotals.merge(key.name(), counter.sum(), Long::sum));
+
+    report.append("\n=== Test metrics: per phase ===\n");
+    phases.entrySet().stream()
+        .sorted(Comparator.comparingLong(
+            (Map.Entry<String, Histogram> entry) -> entry.getValue().total()).reversed())
+        .forEach(entry -> {
+          report.append(summary(entry.getKey(), entry.getValue())).append('\n');
+          entry.getValue().appendBars(report);
+        });
+
+    report.append("\n=== Test metrics: per class ===\n");
+    classes.forEach((owner, classPhases) -> {
+      report.append(owner).append('\n');
+      classPhases.forEach((name, histogram) ->
+          report.append("  ").append(summary(name, histogram)).append('\n'));
+    });
+
+    if (!counterTotals.isEmpty()) {
+      report.append("\n=== Test metrics: counters ===\n");
+      counterTotals.forEach((name, total) ->
+          report.append(String.format(Locale.ROOT, "%-24s %10d%n", name, total)));
+    }
+
+    return report.toString();
+  }
+
+  /**
+   * 초기화
+   *
+   * @apiNote 기록한 값 모두 삭제
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  public void clear() {
+    histograms.clear();
+    counters.clear();
+  }
+
+  /**
+   * 요약 출력
+   *
+   * @param name      구간 이름
+   * @param histogram histogram
+   * @return string
+   * @apiNote 횟수, 합계, 평균, p50, p90, p99, 최대 (ms)
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  private static String summary(String name, Histogram histogram) {
+    long count = histogram.count();
+
+    return String.format(Locale.ROOT,
+        "%-24s count=%-8d total=%10.1fms mean=%8.2fms p50=%8.2fms p90=%8.2fms p99=%8.2fms"
+            + " max=%8.2fms",
+        name, count, millis(histogram.total()), millis(count == 0 ? 0 : histogram.total() / count),
+        millis(histogram.percentile(0.5)), millis(histogram.percentile(0.9)),
+        millis(histogram.percentile(0.99)), millis(histogram.max()));
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  /**
+   * 측정 key
+   *
+   * @param owner 테스트 클래스 이름
+   * @param name  구간 또는 counter 이름
+   * @author FreshR
+   * @apiNote 측정 key
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  private record MetricKey(String owner, String name) {
+
+  }
+
+  /**
+   * 소요 시간 histogram
+   *
+   * @author FreshR
+   * @apiNote bucket i 는 [2^(i-1), 2^i) microsecond, bucket 0 은 1 microsecond 미만
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  private static class Histogram {
+
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    private void record(long nanos) {
+      long micros = Math.max(nanos, 0) / 1_000;
+      int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+
+      buckets.incrementAndGet(bucket);
+      count.increment();
+      total.add(nanos);
+      max.accumulate(nanos);
+    }
+
+    private void add(Histogram histogram) {
+      for (int i = 0; i < BUCKETS; i++) {
+        buckets.addAndGet(i, histogram.buckets.get(i));
+      }
+
+      count.add(histogram.count());
+      total.add(histogram.total());
+      max.accumulate(histogram.max());
+    }
+
+    private long count() {
+      return count.sum();
+    }
+
+    private long total() {
+      return total.sum();
+    }
+
+    private long max() {
+      return max.get();
+    }
+
+    /**
+     * 백분위 조회
+     *
+     * @param quantile 0 ~ 1
+     * @return nanosecond
+     * @apiNote 백분위가 포함된 bucket 의 상한 값. 최대 값을 넘지 않는다.
+     * @author FreshR
+     * @since 2026. 10. 17. 오후 10:58:06
+     */
+    private long percentile(double quantile) {
+      long target = (long) Math.ceil(count() * quantile);
+      long seen = 0;
+
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += buckets.get(i);
+
+        if (seen >= target && seen > 0) {
+          return Math.min(upperBound(i), max());
+        }
+      }
+
+      return max();
+    }
+
+    /**
+     * 막대 출력
+     *
+     * @param report 출력 대상
+     * @apiNote 값이 있는 bucket 만 가장 많은 bucket 기준으로 출력
+     * @author FreshR
+     * @since 2026. 10. 17. 오후 10:58:06
+     */
+    private void appendBars(StringBuilder report) {
+      long peak = 0;
+
+      for (int i = 0; i < BUCKETS; i++) {
+        peak = Math.max(peak, buckets.get(i));
+      }
+
+      for (int i = 0; i < BUCKETS; i++) {
+        long value = buckets.get(i);
+
+        if (value == 0) {
+          continue;
+        }
+
+        int width = (int) Math.max(1, value * BAR_WIDTH / peak);
+
+        report.append(String.format(Locale.ROOT, "    < %10.3fms | %-" + BAR_WIDTH + "s %d%n",
+            millis(upperBound(i)), "#".repeat(width), value));
+      }
+    }
+
+    private static long upperBound(int bucket) {
+      return (1L << bucket) * 1_000;
+    }
+
+  }
+
+}
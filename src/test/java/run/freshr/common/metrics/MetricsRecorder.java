@@ -0,0 +1,55 @@
+package run.freshr.common.metrics;
+
+/**
+ * 측정 값 기록 기능
+ *
+ * @author FreshR
+ * @apiNote 테스트 클래스와 구간 이름별로 소요 시간과 횟수를 기록<br>
+ *          Micrometer 의 Timer, Counter 와 같은 용도이며 {@link TestMetrics#setRecorder(MetricsRecorder)} 로
+ *          다른 기록 기능(MeterRegistry 등)과 연결할 수 있다.<br>
+ *          여러 thread 에서 동시에 호출된다.
+ * @since 2026. 10. 17. 오후 10:58:06
+ */
+public interface MetricsRecorder {
+
+  /**
+   * 기록하지 않는 기능
+   *
+   * @apiNote 기본 값
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  MetricsRecorder NOOP = new MetricsRecorder() {
+    @Override
+    public void record(Class<?> owner, String phase, long nanos) {
+    }
+
+    @Override
+    public void increment(Class<?> owner, String counter, long amount) {
+    }
+  };
+
+  /**
+   * 소요 시간 기록
+   *
+   * @param owner 테스트 클래스
+   * @param phase 구간 이름
+   * @param nanos 소요 시간 (nanosecond)
+   * @apiNote Timer
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  void record(Class<?> owner, String phase, long nanos);
+
+  /**
+   * 횟수 기록
+   *
+   * @param owner   테스트 클래스
+   * @param counter counter 이름
+   * @param amount  증가 값
+   * @apiNote Counter
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  void increment(Class<?> owner, String counter, long amount);
+
+}
@@ -0,0 +1,117 @@
+package run.freshr.common.metrics;
+
+import static java.util.Objects.isNull;
+
+/**
+ * 테스트 측정 기능
+ *
+ * @author FreshR
+ * @apiNote 요청, 문서 작성, 인증 등 테스트 공통 기능의 구간별 소요 시간과 횟수를 {@link MetricsRecorder} 로 전달<br>
+ *          기본은 {@link MetricsRecorder#NOOP} 이며 이때 {@link #start()} 는 시간을 조회하지 않는다.<br>
+ *          {@code freshr.metrics.enabled=true} 로 실행하면 {@link HistogramRecorder} 로 기록하고
+ *          테스트 실행이 끝날 때 결과를 출력한다.
+ * @since 2026. 10. 17. 오후 10:58:06
+ */
+public class TestMetrics {
+
+  public static final String ENABLED_PROPERTY = "freshr.metrics.enabled";
+
+  public static final String PHASE_DISPATCH = "dispatch"; // MockMvc 요청 처리
+  public static final String PHASE_JSON = "json"; // 요청 body 변환
+  public static final String PHASE_DOCS = "docs"; // snippet 작성
+  public static final String PHASE_APPLY = "apply"; // 영속성 컨텍스트 반영
+  public static final String PHASE_AUTHENTICATION = "authentication"; // 인증 정보 설정
+  public static final String PHASE_TOKEN = "token"; // 토큰 발급
+  public static final String COUNTER_TOKEN_ISSUED = "token.issued"; // service 로 발급한 토큰 수
+  public static final String COUNTER_TOKEN_CACHE_HIT = "token.cache-hit"; // 캐시에서 재사용한 토큰 수
+
+  private static volatile MetricsRecorder recorder = MetricsRecorder.NOOP;
+
+  /**
+   * 생성자
+   *
+   * @apiNote 정적 기능만 제공
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  private TestMetrics() {
+  }
+
+  /**
+   * 기록 기능 조회
+   *
+   * @return metrics recorder
+   * @apiNote 기록 기능 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  public static MetricsRecorder getRecorder() {
+    return recorder;
+  }
+
+  /**
+   * 기록 기능 설정
+   *
+   * @param metricsRecorder 기록 기능. null 인 경우 {@link MetricsRecorder#NOOP}
+   * @apiNote 기록 기능 설정
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  public static void setRecorder(MetricsRecorder metricsRecorder) {
+    recorder = isNull(metricsRecorder) ? MetricsRecorder.NOOP : metricsRecorder;
+  }
+
+  /**
+   * 기록 여부
+   *
+   * @return boolean
+   * @apiNote {@link MetricsRecorder#NOOP} 이 아니면 TRUE
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  public static boolean isEnabled() {
+    return recorder != MetricsRecorder.NOOP;
+  }
+
+  /**
+   * 측정 시작
+   *
+   * @return 시작 시각 (nanosecond). 기록하지 않는 경우 0
+   * @apiNote {@link #stop(Class, String, long)} 에 전달
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  public static long start() {
+    return isEnabled() ? System.nanoTime() : 0;
+  }
+
+  /**
+   * 측정 종료
+   *
+   * @param owner 테스트 클래스
+   * @param phase 구간 이름
+   * @param start {@link #start()} 의 반환 값
+   * @apiNote 시작 시각이 0 이면 기록하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  public static void stop(Class<?> owner, String phase, long start) {
+    if (start != 0) {
+      recorder.record(owner, phase, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * 횟수 증가
+   *
+   * @param owner   테스트 클래스
+   * @param counter counter 이름
+   * @apiNote 1 증가
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 10:58:06
+   */
+  public static void increment(Class<?> owner, String counter) {
+    recorder.increment(owner, counter, 1);
+  }
+
+}
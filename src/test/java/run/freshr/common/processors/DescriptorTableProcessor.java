@@ -0,0 +1,252 @@
+package run.freshr.common.processors;
+
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * 문서 정보 table 생성 기능
+ *
+ * @author FreshR
+ * @apiNote {@code @Entity}, {@code @Embeddable}, {@code @MappedSuperclass} 유형마다
+ *          {@code {유형 이름}DescriptorTable} 을 같은 package 에 생성<br>
+ *          상위 유형을 포함한 field 별 이름, {@code @Comment} 설명, {@code @Column} 길이, {@code @Enumerated} 여부를
+ *          {@value #TABLE_FIELD} 에 기록하고, PrintUtil 은 table 이 있으면 annotation 을 읽지 않고 사용한다.<br>
+ *          생성한 코드는 JDK 유형만 사용하므로 main source set 에 적용할 수 있고,
+ *          이 기능도 JDK 유형만 사용하므로 annotationProcessor 에 이 library 만 추가하면 된다.
+ * @since 2026. 10. 18. 오전 12:47:33
+ */
+@SupportedAnnotationTypes({DescriptorTableProcessor.ENTITY, DescriptorTableProcessor.EMBEDDABLE,
+    DescriptorTableProcessor.MAPPED_SUPERCLASS})
+public class DescriptorTableProcessor extends AbstractProcessor {
+
+  public static final String TABLE_SUFFIX = "DescriptorTable"; // 생성할 유형 이름 접미사
+  public static final String TABLE_FIELD = "DESCRIPTORS"; // 문서 정보 table 변수 이름
+
+  static final String ENTITY = "jakarta.persistence.Entity";
+  static final String EMBEDDABLE = "jakarta.persistence.Embeddable";
+  static final String MAPPED_SUPERCLASS = "jakarta.persistence.MappedSuperclass";
+
+  private static final String TRANSIENT = "jakarta.persistence.Transient";
+  private static final String COMMENT = "org.hibernate.annotations.Comment";
+  private static final String COLUMN = "jakarta.persistence.Column";
+  private static final String ENUMERATED = "jakarta.persistence.Enumerated";
+
+  private final Set<String> generated = new HashSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element instanceof TypeElement type && generated.add(type.getQualifiedName()
+            .toString())) {
+          write(type);
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * table 작성
+   *
+   * @param type entity 유형
+   * @apiNote 문자열은 escape 한 ASCII 로 작성하므로 compile encoding 과 상관없이 읽을 수 있다.<br>
+   *          작성하지 못하면 compile 오류로 보고
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  private void write(TypeElement type) {
+    Elements elements = processingEnv.getElementUtils();
+    String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+    String tableName = tableName(type);
+    String qualifiedName = packageName.isEmpty() ? tableName : packageName + "." + tableName;
+
+    try (PrintWriter writer = new PrintWriter(
+        processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter())) {
+      if (!packageName.isEmpty()) {
+        writer.println("package " + packageName + ";");
+        writer.println();
+      }
+
+      writer.println("/**");
+      writer.println(" * Descriptor table of {@link " + type.getQualifiedName() + "}");
+      writer.println(" *");
+      writer.println(" * @apiNote { name, comment, column length (-1: none), enumerated }");
+      writer.println(" */");
+      writer.println("@javax.annotation.processing.Generated(\""
+          + DescriptorTableProcessor.class.getName() + "\")");
+      writer.println("public final class " + tableName + " {");
+      writer.println();
+      writer.println("  public static final Object[][] " + TABLE_FIELD + " = {");
+      collect(type).values().forEach(row -> writer.println("      " + row + ","));
+      writer.println("  };");
+      writer.println();
+      writer.println("  private " + tableName + "() {");
+      writer.println("  }");
+      writer.println();
+      writer.println("}");
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR,
+          "Cannot write " + qualifiedName + ": " + e.getMessage(), type);
+    }
+  }
+
+  /**
+   * table 이름 조회
+   *
+   * @param type entity 유형
+   * @return string
+   * @apiNote 중첩 유형은 바깥 유형 이름과 {@code _} 로 연결
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  static String tableName(TypeElement type) {
+    Deque<String> names = new ArrayDeque<>();
+
+    for (Element element = type; element instanceof TypeElement typeElement;
+        element = element.getEnclosingElement()) {
+      names.addFirst(typeElement.getSimpleName().toString());
+    }
+
+    return String.join("_", names) + TABLE_SUFFIX;
+  }
+
+  /**
+   * field 정보 수집
+   *
+   * @param type entity 유형
+   * @return map
+   * @apiNote 하위 유형부터 상위 유형 순서로 수집하고 같은 이름은 하위 유형의 field 를 사용<br>
+   *          static, transient, {@code @Transient} field 는 제외
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  private Map<String, String> collect(TypeElement type) {
+    Elements elements = processingEnv.getElementUtils();
+    Map<String, String> rows = new LinkedHashMap<>();
+
+    for (TypeElement current = type; !isNull(current); current = superclass(current)) {
+      for (Element member : current.getEnclosedElements()) {
+        if (member.getKind() != ElementKind.FIELD
+            || member.getModifiers().contains(Modifier.STATIC)
+            || member.getModifiers().contains(Modifier.TRANSIENT)
+            || !isNull(annotation(member, TRANSIENT))) {
+          continue;
+        }
+
+        String name = member.getSimpleName().toString();
+        AnnotationValue comment = value(member, COMMENT, "value");
+        AnnotationValue length = value(member, COLUMN, "length");
+
+        rows.putIfAbsent(name, "{" + elements.getConstantExpression(name)
+            + ", " + elements.getConstantExpression(isNull(comment) ? "" : comment.getValue())
+            + ", " + (isNull(length) ? -1 : length.getValue())
+            + ", " + !isNull(annotation(member, ENUMERATED)) + "}");
+      }
+    }
+
+    return rows;
+  }
+
+  /**
+   * 상위 유형 조회
+   *
+   * @param type 유형
+   * @return type element
+   * @apiNote 상위 유형이 없거나 {@link Object} 인 경우 null
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  private static TypeElement superclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+
+    TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+
+    return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+  }
+
+  /**
+   * annotation 조회
+   *
+   * @param element        대상
+   * @param annotationName annotation 유형 이름
+   * @return annotation mirror
+   * @apiNote annotation 유형을 불러오지 않고 이름으로 비교. 없으면 null
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  private static AnnotationMirror annotation(Element element, String annotationName) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+
+      if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+        return mirror;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * annotation 속성 값 조회
+   *
+   * @param element        대상
+   * @param annotationName annotation 유형 이름
+   * @param attribute      속성 이름
+   * @return annotation value
+   * @apiNote 기본값을 포함해서 조회. annotation 이 없으면 null
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  private AnnotationValue value(Element element, String annotationName, String attribute) {
+    AnnotationMirror mirror = annotation(element, annotationName);
+
+    if (isNull(mirror)) {
+      return null;
+    }
+
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv
+        .getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+        return entry.getValue();
+      }
+    }
+
+    return null;
+  }
+
+}
@@ -0,0 +1,131 @@
+package run.freshr.common.utils;
+
+import static java.util.Objects.isNull;
+import static run.freshr.common.enumerations.ColumnType.BIGINT;
+import static run.freshr.common.enumerations.ColumnType.BIT;
+import static run.freshr.common.enumerations.ColumnType.BLOB;
+import static run.freshr.common.enumerations.ColumnType.DATE;
+import static run.freshr.common.enumerations.ColumnType.DATETIME;
+import static run.freshr.common.enumerations.ColumnType.DECIMAL;
+import static run.freshr.common.enumerations.ColumnType.DOUBLE;
+import static run.freshr.common.enumerations.ColumnType.FLOAT;
+import static run.freshr.common.enumerations.ColumnType.INT;
+import static run.freshr.common.enumerations.ColumnType.SMALLINT;
+import static run.freshr.common.enumerations.ColumnType.TIME;
+import static run.freshr.common.enumerations.ColumnType.TINYINT;
+import static run.freshr.common.enumerations.ColumnType.UNKNOWN;
+import static run.freshr.common.enumerations.ColumnType.VARCHAR;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import run.freshr.common.enumerations.ColumnType;
+
+/**
+ * {@link ColumnType} 등록 정보
+ *
+ * @author FreshR
+ * @apiNote Java 유형별 {@link ColumnType} 을 관리<br>
+ *          서비스에서 사용하는 유형은 {@link #register(Class, ColumnType)} 로 추가하거나 변경할 수 있다.<br>
+ *          열거형은 기존과 같이 {@link ColumnType#UNKNOWN} 이며, {@link Enum} 을 등록한 경우에만 등록한 유형을 사용한다.
+ * @since 2026. 10. 17. 오전 11:40:05
+ */
+public class ColumnTypeRegistry {
+
+  /**
+   * 등록 정보 저장소
+   *
+   * @apiNote Java 유형별 {@link ColumnType}
+   * @since 2026. 10. 17. 오전 11:40:05
+   */
+  private static final Map<Class<?>, ColumnType> REGISTRY = new ConcurrentHashMap<>();
+
+  static {
+    REGISTRY.put(Float.class, FLOAT);
+    REGISTRY.put(float.class, FLOAT);
+    REGISTRY.put(Double.class, DOUBLE);
+    REGISTRY.put(double.class, DOUBLE);
+    REGISTRY.put(BigDecimal.class, DECIMAL);
+    REGISTRY.put(BigInteger.class, DECIMAL);
+    REGISTRY.put(Byte.class, TINYINT);
+    REGISTRY.put(byte.class, TINYINT);
+    REGISTRY.put(Short.class, SMALLINT);
+    REGISTRY.put(short.class, SMALLINT);
+    REGISTRY.put(String.class, VARCHAR);
+    REGISTRY.put(Long.class, BIGINT);
+    REGISTRY.put(long.class, BIGINT);
+    REGISTRY.put(Integer.class, INT);
+    REGISTRY.put(int.class, INT);
+    REGISTRY.put(Boolean.class, BIT);
+    REGISTRY.put(boolean.class, BIT);
+    REGISTRY.put(LocalDate.class, DATE);
+    REGISTRY.put(LocalDateTime.class, DATETIME);
+    REGISTRY.put(OffsetDateTime.class, DATETIME);
+    REGISTRY.put(ZonedDateTime.class, DATETIME);
+    REGISTRY.put(Instant.class, DATETIME);
+    REGISTRY.put(LocalTime.class, TIME);
+    REGISTRY.put(OffsetTime.class, TIME);
+    REGISTRY.put(UUID.class, ColumnType.UUID);
+    REGISTRY.put(byte[].class, BLOB);
+    REGISTRY.put(Byte[].class, BLOB);
+  }
+
+  /**
+   * 생성자
+   *
+   * @apiNote 정적 기능만 제공
+   * @author FreshR
+   * @since 2026. 10. 17. 오전 11:40:05
+   */
+  private ColumnTypeRegistry() {
+  }
+
+  /**
+   * {@link ColumnType} 등록
+   *
+   * @param type       Java 유형
+   * @param columnType 컬럼 유형
+   * @apiNote Java 유형의 {@link ColumnType} 을 추가하거나 변경<br>
+   *          {@link Enum} 을 등록하면 따로 등록하지 않은 열거형의 기본 유형이 변경된다.<br>
+   *          이미 해석한 정보가 남지 않도록 {@link PathMetadataCache} 를 초기화한다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오전 11:40:05
+   */
+  public static void register(Class<?> type, ColumnType columnType) {
+    REGISTRY.put(type, columnType);
+    PathMetadataCache.clear();
+  }
+
+  /**
+   * {@link ColumnType} 조회
+   *
+   * @param type Java 유형
+   * @return column type
+   * @apiNote 등록하지 않은 유형은 {@link ColumnType#UNKNOWN} 반환
+   * @author FreshR
+   * @since 2026. 10. 17. 오전 11:40:05
+   */
+  public static ColumnType get(Class<?> type) {
+    ColumnType columnType = REGISTRY.get(type);
+
+    if (!isNull(columnType)) {
+      return columnType;
+    }
+
+    if (Enum.class.isAssignableFrom(type)) { // 열거형 기본 유형
+      return REGISTRY.getOrDefault(Enum.class, UNKNOWN);
+    }
+
+    return UNKNOWN;
+  }
+
+}
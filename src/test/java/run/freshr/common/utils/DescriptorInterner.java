@@ -0,0 +1,296 @@
+package run.freshr.common.utils;
+
+import static java.util.Objects.isNull;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.util.StringUtils.hasLength;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.springframework.restdocs.payload.FieldDescriptor;
+import org.springframework.restdocs.request.ParameterDescriptor;
+import org.springframework.restdocs.snippet.Attributes.Attribute;
+
+/**
+ * 문서 구성 요소 문자열 공유 기능
+ *
+ * @author FreshR
+ * @apiNote {@link FieldDescriptor} 의 경로와 {@link ParameterDescriptor} 의 이름, 설명처럼 조합해서 만드는 문자열을
+ *          프로세스 전역에서 한 번만 생성해서 공유<br>
+ *          구성 요소는 변경할 수 있는 객체이므로 공유하지 않고 호출할 때마다 새로 생성한다.
+ *          반환한 구성 요소에 {@code optional()}, {@code ignored()}, {@code attributes()} 를 호출해도
+ *          다른 테스트에 영향이 없다.<br>
+ *          저장소마다 최대 {@value #MAX_SIZE} 개까지 저장하고, 넘으면 저장하지 않고 생성한 문자열을 사용한다.
+ * @since 2026. 10. 17. 오후 8:55:06
+ */
+public class DescriptorInterner {
+
+  /**
+   * 저장소 최대 크기
+   *
+   * @apiNote 저장소별 최대 문자열 수
+   * @since 2026. 10. 18. 오전 3:31:40
+   */
+  public static final int MAX_SIZE = 10_000;
+
+  /**
+   * {@link FieldDescriptor} 경로 저장소
+   *
+   * @apiNote {@link FieldKey} 별 경로
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  private static final Map<FieldKey, String> FIELDS = new ConcurrentHashMap<>();
+  /**
+   * {@link ParameterDescriptor} 이름 & 설명 저장소
+   *
+   * @apiNote {@link ParameterKey} 별 이름 & 설명
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  private static final Map<ParameterKey, ParameterText> PARAMETERS = new ConcurrentHashMap<>();
+  /**
+   * 공유 적중 수
+   *
+   * @apiNote 공유 적중 수
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  private static final LongAdder HIT = new LongAdder();
+  /**
+   * 공유 누락 수
+   *
+   * @apiNote 공유 누락 수
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  private static final LongAdder MISS = new LongAdder();
+
+  /**
+   * 생성자
+   *
+   * @apiNote 정적 기능만 제공
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  private DescriptorInterner() {
+  }
+
+  /**
+   * {@link FieldDescriptor} 생성
+   *
+   * @param prefix      경로 prefix
+   * @param name        이름
+   * @param description 설명
+   * @param type        유형
+   * @param optional    선택 입력 여부
+   * @param attributes  속성
+   * @return field descriptor
+   * @apiNote 공유한 경로로 새 구성 요소 생성<br>
+   *          경로는 prefix 가 있는 경우 prefix.name
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  public static FieldDescriptor field(String prefix, String name, String description, Object type,
+      boolean optional, Attribute... attributes) {
+    FieldDescriptor fieldDescriptor = fieldWithPath(intern(FIELDS, new FieldKey(prefix, name),
+        key -> path(prefix, name)))
+        .type(type)
+        .description(description)
+        .attributes(attributes);
+
+    if (optional) {
+      fieldDescriptor.optional();
+    }
+
+    return fieldDescriptor;
+  }
+
+  /**
+   * {@link ParameterDescriptor} 생성
+   *
+   * @param prefix            이름 prefix
+   * @param name              이름
+   * @param prefixDescription 설명 prefix
+   * @param description       설명
+   * @param format            규칙
+   * @param size              제한 크기
+   * @param optional          선택 입력 여부
+   * @param attributes        속성
+   * @return parameter descriptor
+   * @apiNote 공유한 이름과 설명으로 새 구성 요소 생성<br>
+   *          설명은 "설명 prefix 설명 | format: 규칙 | size: 제한 크기"
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  public static ParameterDescriptor parameter(String prefix, String name, String prefixDescription,
+      String description, String format, String size, boolean optional,
+      Attribute... attributes) {
+    ParameterText text = intern(PARAMETERS,
+        new ParameterKey(prefix, name, prefixDescription, description, format, size), key -> {
+          String parameterDescription = description;
+
+          if (hasLength(format)) {
+            parameterDescription += " | format: " + format;
+          }
+
+          if (hasLength(size)) {
+            parameterDescription += " | size: " + size;
+          }
+
+          return new ParameterText(path(prefix, name),
+              prefixDescription + " " + parameterDescription);
+        });
+    ParameterDescriptor parameterDescriptor = parameterWithName(text.name())
+        .description(text.description())
+        .attributes(attributes);
+
+    if (optional) {
+      parameterDescriptor.optional();
+    }
+
+    return parameterDescriptor;
+  }
+
+  /**
+   * 공유 값 조회
+   *
+   * @param <K>     key 유형
+   * @param <V>     값 유형
+   * @param store   저장소
+   * @param key     key
+   * @param creator 값 생성 기능
+   * @return value
+   * @apiNote 없는 경우 생성해서 저장. 저장소가 가득 찬 경우 저장하지 않고 생성한 값 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 3:31:40
+   */
+  private static <K, V> V intern(Map<K, V> store, K key, Function<K, V> creator) {
+    V cached = store.get(key);
+
+    if (!isNull(cached)) {
+      HIT.increment();
+
+      return cached;
+    }
+
+    MISS.increment();
+
+    V value = creator.apply(key);
+
+    if (store.size() >= MAX_SIZE) {
+      return value;
+    }
+
+    V previous = store.putIfAbsent(key, value);
+
+    return isNull(previous) ? value : previous;
+  }
+
+  /**
+   * 공유 적중 수 조회
+   *
+   * @return hit count
+   * @apiNote 공유 적중 수 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  public static long getHitCount() {
+    return HIT.sum();
+  }
+
+  /**
+   * 공유 누락 수 조회
+   *
+   * @return miss count
+   * @apiNote 공유 누락 수 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  public static long getMissCount() {
+    return MISS.sum();
+  }
+
+  /**
+   * 저장소 크기 조회
+   *
+   * @return size
+   * @apiNote 저장된 문자열 수 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  public static int size() {
+    return FIELDS.size() + PARAMETERS.size();
+  }
+
+  /**
+   * 저장소 초기화
+   *
+   * @apiNote 저장된 문자열과 적중 & 누락 수 초기화
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  public static void clear() {
+    FIELDS.clear();
+    PARAMETERS.clear();
+    HIT.reset();
+    MISS.reset();
+  }
+
+  /**
+   * 경로 생성
+   *
+   * @param prefix prefix
+   * @param name   이름
+   * @return string
+   * @apiNote prefix 가 있는 경우 prefix.name
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  private static String path(String prefix, String name) {
+    return (hasLength(prefix) ? prefix + "." : "") + name;
+  }
+
+  /**
+   * {@link FieldDescriptor} key
+   *
+   * @param prefix 경로 prefix
+   * @param name   이름
+   * @author FreshR
+   * @apiNote {@link FieldDescriptor} 경로 key
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  private record FieldKey(String prefix, String name) {
+
+  }
+
+  /**
+   * {@link ParameterDescriptor} key
+   *
+   * @param prefix            이름 prefix
+   * @param name              이름
+   * @param prefixDescription 설명 prefix
+   * @param description       설명
+   * @param format            규칙
+   * @param size              제한 크기
+   * @author FreshR
+   * @apiNote {@link ParameterDescriptor} 이름 & 설명 key
+   * @since 2026. 10. 17. 오후 8:55:06
+   */
+  private record ParameterKey(String prefix, String name, String prefixDescription,
+                              String description, String format, String size) {
+
+  }
+
+  /**
+   * {@link ParameterDescriptor} 이름 & 설명
+   *
+   * @param name        이름
+   * @param description 설명
+   * @author FreshR
+   * @apiNote 공유하는 이름 & 설명
+   * @since 2026. 10. 18. 오전 3:31:40
+   */
+  private record ParameterText(String name, String description) {
+
+  }
+
+}
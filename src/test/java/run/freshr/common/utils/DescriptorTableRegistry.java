@@ -0,0 +1,110 @@
+package run.freshr.common.utils;
+
+import static java.util.Objects.isNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import run.freshr.common.processors.DescriptorTableProcessor;
+
+/**
+ * 문서 정보 table 등록 정보
+ *
+ * @author FreshR
+ * @apiNote {@link DescriptorTableProcessor} 가 compile 시점에 생성한 table 을 유형별로 한 번만 읽어서 관리<br>
+ *          table 이 없는 유형은 빈 정보로 기록하고 다시 찾지 않는다.
+ * @since 2026. 10. 18. 오전 12:47:33
+ */
+public class DescriptorTableRegistry {
+
+  /**
+   * 등록 정보 저장소
+   *
+   * @apiNote 유형별 property 이름과 {@link Descriptor}
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  private static final Map<Class<?>, Map<String, Descriptor>> REGISTRY =
+      new ConcurrentHashMap<>();
+
+  /**
+   * 생성자
+   *
+   * @apiNote 정적 기능만 제공
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  private DescriptorTableRegistry() {
+  }
+
+  /**
+   * {@link Descriptor} 조회
+   *
+   * @param type     entity 유형
+   * @param property property 이름
+   * @return descriptor
+   * @apiNote table 이 없거나 property 가 없으면 null
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  public static Descriptor get(Class<?> type, String property) {
+    return REGISTRY.computeIfAbsent(type, DescriptorTableRegistry::load).get(property);
+  }
+
+  /**
+   * table 조회
+   *
+   * @param type entity 유형
+   * @return map
+   * @apiNote 유형과 같은 package 의 {@code {유형 이름}DescriptorTable} 을 읽어서 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  private static Map<String, Descriptor> load(Class<?> type) {
+    ClassLoader classLoader = type.getClassLoader();
+
+    if (isNull(classLoader) || type.isPrimitive() || type.isArray()) { // JDK 유형
+      return Map.of();
+    }
+
+    String packageName = type.getPackageName();
+    String tableName = (packageName.isEmpty() ? "" : packageName + ".")
+        + type.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+        .replace('$', '_')
+        + DescriptorTableProcessor.TABLE_SUFFIX;
+    Object[][] table;
+
+    try {
+      table = (Object[][]) Class.forName(tableName, true, classLoader)
+          .getField(DescriptorTableProcessor.TABLE_FIELD)
+          .get(null);
+    } catch (ClassNotFoundException e) {
+      return Map.of();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Invalid descriptor table " + tableName, e);
+    }
+
+    Map<String, Descriptor> descriptors = new HashMap<>();
+
+    for (Object[] row : table) {
+      descriptors.put((String) row[0],
+          new Descriptor((String) row[1], (Integer) row[2], (Boolean) row[3]));
+    }
+
+    return Map.copyOf(descriptors);
+  }
+
+  /**
+   * property 문서 정보
+   *
+   * @param comment    설명. {@code @Comment} 가 없으면 빈 문자열
+   * @param length     {@code @Column} 길이. {@code @Column} 이 없으면 -1
+   * @param enumerated {@code @Enumerated} 여부
+   * @author FreshR
+   * @apiNote compile 시점에 생성한 property 문서 정보
+   * @since 2026. 10. 18. 오전 12:47:33
+   */
+  public record Descriptor(String comment, int length, boolean enumerated) {
+
+  }
+
+}
@@ -0,0 +1,153 @@
+package run.freshr.common.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+/**
+ * 테스트 데이터 snapshot
+ *
+ * @author FreshR
+ * @apiNote 데이터베이스 상태를 H2 {@code SCRIPT TO} 로 임시 파일에 저장하고 {@code RUNSCRIPT FROM} 으로 복원<br>
+ *          한 번 입력한 테스트 데이터를 다른 Application Context 의 데이터베이스나
+ *          rollback 을 사용할 수 없는 테스트 클래스에서 빠르게 다시 사용한다.<br>
+ *          H2 데이터베이스만 지원한다.
+ * @since 2026. 10. 17. 오후 9:18:40
+ */
+public class FixtureSnapshot {
+
+  private static final String DATABASE_PRODUCT_NAME = "H2";
+
+  /**
+   * snapshot 파일
+   *
+   * @apiNote JVM 종료 시 삭제
+   * @since 2026. 10. 17. 오후 9:18:40
+   */
+  private final Path script;
+
+  /**
+   * 생성자
+   *
+   * @param script snapshot 파일
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 9:18:40
+   */
+  private FixtureSnapshot(Path script) {
+    this.script = script;
+  }
+
+  /**
+   * 지원 여부 확인
+   *
+   * @param dataSource data source
+   * @apiNote H2 데이터베이스가 아니면 {@link IllegalStateException}<br>
+   *          테스트 데이터를 입력하기 전에 확인해서 snapshot 을 만들 수 없는 경우 바로 실패한다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 3:48:12
+   */
+  public static void checkSupported(DataSource dataSource) {
+    try (Connection connection = dataSource.getConnection()) {
+      checkSupported(connection);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to check fixture snapshot database", e);
+    }
+  }
+
+  /**
+   * snapshot 생성
+   *
+   * @param dataSource data source
+   * @return fixture snapshot
+   * @apiNote 현재 데이터베이스의 구조와 데이터를 임시 파일에 저장
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 9:18:40
+   */
+  public static FixtureSnapshot capture(DataSource dataSource) {
+    Path script;
+
+    try {
+      script = Files.createTempFile("freshr-fixture-", ".sql");
+      script.toFile().deleteOnExit();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    execute(dataSource, "SCRIPT NOPASSWORDS NOSETTINGS TO '" + path(script) + "'");
+
+    return new FixtureSnapshot(script);
+  }
+
+  /**
+   * snapshot 복원
+   *
+   * @param dataSource data source
+   * @apiNote 데이터베이스의 모든 객체를 삭제하고 snapshot 으로 다시 생성<br>
+   *          진행 중인 transaction 이 없을 때 실행
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 9:18:40
+   */
+  public void restore(DataSource dataSource) {
+    execute(dataSource, "DROP ALL OBJECTS", "RUNSCRIPT FROM '" + path(script) + "'");
+  }
+
+  /**
+   * SQL 실행
+   *
+   * @param dataSource data source
+   * @param sqls       SQL 목록
+   * @apiNote 하나의 연결에서 순서대로 실행
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 9:18:40
+   */
+  private static void execute(DataSource dataSource, String... sqls) {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      checkSupported(connection);
+
+      for (String sql : sqls) {
+        statement.execute(sql);
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to execute fixture snapshot", e);
+    }
+  }
+
+  /**
+   * 지원 여부 확인
+   *
+   * @param connection connection
+   * @throws SQLException sql exception
+   * @apiNote H2 데이터베이스가 아니면 {@link IllegalStateException}
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 3:48:12
+   */
+  private static void checkSupported(Connection connection) throws SQLException {
+    String product = connection.getMetaData().getDatabaseProductName();
+
+    if (!DATABASE_PRODUCT_NAME.equalsIgnoreCase(product)) {
+      throw new IllegalStateException("Fixture snapshot supports H2 only, but the DataSource is "
+          + product + ". Seed the data directly instead of seedFixture(DataSource, Runnable)");
+    }
+  }
+
+  /**
+   * 파일 경로
+   *
+   * @param script snapshot 파일
+   * @return string
+   * @apiNote SQL 문자열에 사용할 경로
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 9:18:40
+   */
+  private static String path(Path script) {
+    return script.toAbsolutePath().toString().replace('\\', '/').replace("'", "''");
+  }
+
+}
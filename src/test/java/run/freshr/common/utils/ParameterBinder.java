@@ -0,0 +1,151 @@
+package run.freshr.common.utils;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.isNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Request Parameter 설정 기능
+ *
+ * @author FreshR
+ * @apiNote 요청 query string 데이터의 필드를 Request Parameter 로 설정<br>
+ *          유형별로 상위 클래스까지 모든 필드의 {@link MethodHandle} 을 한 번만 생성해서 재사용한다.
+ * @since 2026. 10. 17. 오후 2:21:54
+ */
+@Slf4j
+public class ParameterBinder {
+
+  /**
+   * 유형별 {@link ParameterBinder}
+   *
+   * @apiNote 유형별로 한 번만 생성
+   * @since 2026. 10. 17. 오후 2:21:54
+   */
+  private static final ClassValue<ParameterBinder> BINDERS = new ClassValue<>() {
+    @Override
+    protected ParameterBinder computeValue(Class<?> type) {
+      return new ParameterBinder(type);
+    }
+  };
+
+  /**
+   * 필드 조회 기능 목록
+   *
+   * @apiNote 하위 클래스부터 상위 클래스 순서의 필드 조회 기능 목록
+   * @since 2026. 10. 17. 오후 2:21:54
+   */
+  private final List<Accessor> accessorList;
+
+  /**
+   * 생성자
+   *
+   * @param type 요청 query string 데이터 유형
+   * @apiNote {@link Object} 를 제외한 모든 상위 클래스의 static 이 아닌 필드를 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 2:21:54
+   */
+  private ParameterBinder(Class<?> type) {
+    List<Accessor> accessorList = new ArrayList<>();
+
+    for (Class<?> target = type; !isNull(target) && !target.equals(Object.class);
+        target = target.getSuperclass()) {
+      try {
+        Lookup lookup = MethodHandles.privateLookupIn(target, MethodHandles.lookup());
+
+        for (Field field : target.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+            continue;
+          }
+
+          MethodHandle getter = lookup.unreflectGetter(field)
+              .asType(methodType(Object.class, Object.class));
+
+          accessorList.add(new Accessor(field.getName(),
+              List.class.isAssignableFrom(field.getType()), getter));
+        }
+      } catch (IllegalAccessException e) {
+        log.error(e.getMessage(), e);
+      }
+    }
+
+    this.accessorList = List.copyOf(accessorList);
+  }
+
+  /**
+   * {@link ParameterBinder} 조회
+   *
+   * @param type 요청 query string 데이터 유형
+   * @return parameter binder
+   * @apiNote 유형별로 생성한 {@link ParameterBinder} 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 2:21:54
+   */
+  public static ParameterBinder of(Class<?> type) {
+    return BINDERS.get(type);
+  }
+
+  /**
+   * Request Parameter 설정
+   *
+   * @param search  요청 query string 데이터
+   * @param builder 요청 정보 builder
+   * @apiNote 값이 없는 필드는 제외<br>
+   *          {@link List} 필드는 문자열 변환 없이 {@code name[index]} 형식으로 요소별 설정
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 2:21:54
+   */
+  public void bind(Object search, MockHttpServletRequestBuilder builder) {
+    for (Accessor accessor : accessorList) {
+      Object value;
+
+      try {
+        value = (Object) accessor.getter().invokeExact(search);
+      } catch (Throwable e) {
+        log.error(e.getMessage(), e);
+
+        continue;
+      }
+
+      if (isNull(value)) {
+        continue;
+      }
+
+      if (!accessor.list()) {
+        builder.param(accessor.name(), value.toString());
+
+        continue;
+      }
+
+      List<?> valueList = (List<?>) value;
+      int max = valueList.size();
+
+      for (int i = 0; i < max; i++) {
+        builder.param(accessor.name() + "[" + i + "]", String.valueOf(valueList.get(i)));
+      }
+    }
+  }
+
+  /**
+   * 필드 조회 기능
+   *
+   * @param name   필드 이름
+   * @param list   {@link List} 필드 여부
+   * @param getter 필드 조회 {@link MethodHandle}
+   * @author FreshR
+   * @apiNote 필드 조회 기능
+   * @since 2026. 10. 17. 오후 2:21:54
+   */
+  private record Accessor(String name, boolean list, MethodHandle getter) {
+
+  }
+
+}
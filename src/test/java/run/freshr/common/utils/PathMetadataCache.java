@@ -0,0 +1,174 @@
+package run.freshr.common.utils;
+
+import static java.util.Objects.isNull;
+
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import run.freshr.common.docs.PathMetadata;
+
+/**
+ * {@link Path} 정보 캐시
+ *
+ * @author FreshR
+ * @apiNote QueryDsl {@link Path} 를 해석한 정보를 프로세스 전역에서 재사용<br>
+ *          root 유형과 property 경로가 같으면 같은 {@link Path} 로 판단한다.<br>
+ *          Q-type 의 property {@link Path} 목록도 Q-type 별로 한 번만 조회한다.
+ * @since 2026. 10. 17. 오전 10:12:48
+ */
+public class PathMetadataCache {
+
+  /**
+   * 캐시 저장소
+   *
+   * @apiNote {@link PathKey} 별 해석한 {@link PathMetadata}
+   * @since 2026. 10. 17. 오전 10:12:48
+   */
+  private static final Map<PathKey, PathMetadata> CACHE = new ConcurrentHashMap<>();
+  /**
+   * property 목록 저장소
+   *
+   * @apiNote Q-type {@link PathKey} 별 property {@link Path} 목록
+   * @since 2026. 10. 18. 오전 12:21:07
+   */
+  private static final Map<PathKey, List<Path<?>>> PROPERTIES = new ConcurrentHashMap<>();
+  /**
+   * 캐시 적중 수
+   *
+   * @apiNote 캐시 적중 수
+   * @since 2026. 10. 17. 오전 10:12:48
+   */
+  private static final LongAdder HIT = new LongAdder();
+  /**
+   * 캐시 누락 수
+   *
+   * @apiNote 캐시 누락 수
+   * @since 2026. 10. 17. 오전 10:12:48
+   */
+  private static final LongAdder MISS = new LongAdder();
+
+  /**
+   * 생성자
+   *
+   * @apiNote 정적 기능만 제공
+   * @author FreshR
+   * @since 2026. 10. 17. 오전 10:12:48
+   */
+  private PathMetadataCache() {
+  }
+
+  /**
+   * {@link Path} 정보 조회
+   *
+   * @param path     QueryDsl path 데이터
+   * @param resolver 캐시에 없을 때 사용할 해석 기능
+   * @return path metadata
+   * @apiNote 캐시에 없는 경우 한 번만 해석해서 저장
+   * @author FreshR
+   * @since 2026. 10. 17. 오전 10:12:48
+   */
+  public static PathMetadata get(Path<?> path, Function<Path<?>, PathMetadata> resolver) {
+    PathKey key = PathKey.of(path);
+    PathMetadata cached = CACHE.get(key);
+
+    if (!isNull(cached)) {
+      HIT.increment();
+
+      return cached;
+    }
+
+    return CACHE.computeIfAbsent(key, k -> {
+      MISS.increment();
+
+      return resolver.apply(path);
+    });
+  }
+
+  /**
+   * property {@link Path} 목록 조회
+   *
+   * @param entity QueryDsl entity path 데이터
+   * @param walker 캐시에 없을 때 사용할 property 조회 기능
+   * @return list
+   * @apiNote 캐시에 없는 경우 한 번만 조회해서 변경할 수 없는 목록으로 저장
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 12:21:07
+   */
+  public static List<Path<?>> properties(EntityPathBase<?> entity,
+      Function<EntityPathBase<?>, List<Path<?>>> walker) {
+    return PROPERTIES.computeIfAbsent(PathKey.of(entity), key -> List.copyOf(walker.apply(entity)));
+  }
+
+  /**
+   * 캐시 적중 수 조회
+   *
+   * @return hit count
+   * @apiNote 캐시 적중 수 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오전 10:12:48
+   */
+  public static long getHitCount() {
+    return HIT.sum();
+  }
+
+  /**
+   * 캐시 누락 수 조회
+   *
+   * @return miss count
+   * @apiNote 캐시 누락 수 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오전 10:12:48
+   */
+  public static long getMissCount() {
+    return MISS.sum();
+  }
+
+  /**
+   * 캐시 크기 조회
+   *
+   * @return size
+   * @apiNote 캐시에 저장된 {@link Path} 수 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오전 10:12:48
+   */
+  public static int size() {
+    return CACHE.size();
+  }
+
+  /**
+   * 캐시 초기화
+   *
+   * @apiNote 저장된 정보와 적중 & 누락 수 초기화
+   * @author FreshR
+   * @since 2026. 10. 17. 오전 10:12:48
+   */
+  public static void clear() {
+    CACHE.clear();
+    PROPERTIES.clear();
+    HIT.reset();
+    MISS.reset();
+  }
+
+  /**
+   * 캐시 key
+   *
+   * @param rootType root 유형
+   * @param metadata property 경로
+   * @author FreshR
+   * @apiNote QueryDsl 의 {@link com.querydsl.core.types.PathMetadata} 는 root 변수 이름만 비교하기 때문에<br>
+   *          root 유형을 함께 사용
+   * @since 2026. 10. 17. 오전 10:12:48
+   */
+  private record PathKey(Class<?> rootType, com.querydsl.core.types.PathMetadata metadata) {
+
+    private static PathKey of(Path<?> path) {
+      return new PathKey(path.getRoot().getType(), path.getMetadata());
+    }
+
+  }
+
+}
@@ -1,37 +1,29 @@
 package run.freshr.common.utils;
 
 import static java.util.Objects.isNull;
-import static java.util.Optional.ofNullable;
-import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
-import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.util.StringUtils.hasLength;
-import static run.freshr.common.enumerations.ColumnType.BIGINT;
-import static run.freshr.common.enumerations.ColumnType.BIT;
-import static run.freshr.common.enumerations.ColumnType.BLOB;
-import static run.freshr.common.enumerations.ColumnType.DATE;
-import static run.freshr.common.enumerations.ColumnType.DATETIME;
-import static run.freshr.common.enumerations.ColumnType.DECIMAL;
-import static run.freshr.common.enumerations.ColumnType.DOUBLE;
-import static run.freshr.common.enumerations.ColumnType.FLOAT;
-import static run.freshr.common.enumerations.ColumnType.INT;
-import static run.freshr.common.enumerations.ColumnType.SMALLINT;
-import static run.freshr.common.enumerations.ColumnType.TIME;
-import static run.freshr.common.enumerations.ColumnType.TINYINT;
-import static run.freshr.common.enumerations.ColumnType.UNKNOWN;
-import static run.freshr.common.enumerations.ColumnType.VARCHAR;
 import static run.freshr.common.enumerations.FieldType.BOOLEAN;
 import static run.freshr.common.enumerations.FieldType.ENUM;
 import static run.freshr.common.enumerations.FieldType.NUMBER;
 import static run.freshr.common.enumerations.FieldType.STRING;
 
 import com.querydsl.core.types.Path;
+import com.querydsl.core.types.PathType;
+import com.querydsl.core.types.dsl.ArrayPath;
+import com.querydsl.core.types.dsl.BeanPath;
+import com.querydsl.core.types.dsl.CollectionPathBase;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.MapExpressionBase;
 import jakarta.persistence.Column;
 import jakarta.persistence.Enumerated;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import lombok.Getter;
 import org.hibernate.annotations.Comment;
 import org.springframework.restdocs.payload.FieldDescriptor;
@@ -39,9 +31,11 @@ import org.springframework.restdocs.request.ParameterDescriptor;
 import org.springframework.restdocs.snippet.Attributes;
 import org.springframework.restdocs.snippet.Attributes.Attribute;
 import run.freshr.common.data.SearchData;
+import run.freshr.common.docs.PathMetadata;
 import run.freshr.common.enumerations.ColumnType;
 import run.freshr.common.enumerations.FieldType;
 import run.freshr.common.mappers.EnumModel;
+import run.freshr.common.utils.DescriptorTableRegistry.Descriptor;
 
 /**
  * 문서 편의 기능 정의.
@@ -156,14 +150,22 @@ public class PrintUtil {
      * @apiNote {@link ParameterDescriptor} 목록
      * @since 2024. 3. 29. 오후 2:00:15
      */
-    private final List<ParameterDescriptor> parameterList = new ArrayList<>();
+    private List<ParameterDescriptor> parameterList = new ArrayList<>();
     /**
      * {@link FieldDescriptor} 목록
      *
      * @apiNote {@link FieldDescriptor} 목록
      * @since 2024. 3. 29. 오후 2:00:15
      */
-    private final List<FieldDescriptor> fieldList = new ArrayList<>();
+    private List<FieldDescriptor> fieldList = new ArrayList<>();
+    /**
+     * {@link Template} 공유 여부
+     *
+     * @apiNote 목록을 {@link Template} 과 공유하고 있는지 여부<br>
+     *          항목을 처음 추가할 때 목록을 복사한다.
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    private boolean shared = false;
     /**
      * prefix 경로 변수
      *
@@ -207,6 +209,25 @@ public class PrintUtil {
     public Builder() {
     }
 
+    /**
+     * 생성자
+     *
+     * @param template template
+     * @apiNote {@link Template} 의 목록과 prefix 설정을 이어받는 생성자<br>
+     *          목록은 항목을 처음 추가할 때 복사한다.
+     * @author FreshR
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    private Builder(Template template) {
+      this.parameterList = template.parameterList;
+      this.fieldList = template.fieldList;
+      this.shared = true;
+      this.prefix = template.prefix;
+      this.prefixDescription = template.prefixDescription;
+      this.prefixOptional = template.prefixOptional;
+      this.isSize = template.isSize;
+    }
+
     /**
      * 객체 build
      *
@@ -219,6 +240,18 @@ public class PrintUtil {
       return new PrintUtil(this);
     }
 
+    /**
+     * {@link Template} 생성
+     *
+     * @return template
+     * @apiNote 지금까지 작성한 목록과 prefix 설정을 변경할 수 없는 {@link Template} 으로 고정
+     * @author FreshR
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    public Template freeze() {
+      return new Template(this);
+    }
+
     /**
      * parameter name & field path 의 prefix 설정
      *
@@ -495,22 +528,12 @@ public class PrintUtil {
      */
     public Builder parameter(Path<?> path, String customDescription, Boolean optional,
         Attribute... attributes) {
-      HashMap<String, Object> map = pathMap(path);
-      String name = map.get("name").toString();
-      String description = map.get("description").toString();
-      String parameterDescription = hasLength(customDescription) ? customDescription : description;
-      String size = ofNullable(map.get("size")).orElse("").toString();
-      String format = ofNullable(map.get("format")).orElse("").toString();
-
-      if (hasLength(format)) {
-        parameterDescription += " | format: " + format;
-      }
+      PathMetadata metadata = pathMetadata(path);
+      String parameterDescription = hasLength(customDescription) ? customDescription
+          : metadata.description();
 
-      if (hasLength(size) && isSize) {
-        parameterDescription += " | size: " + size;
-      }
-
-      return parameter(name, parameterDescription, optional, attributes);
+      return addParameter(metadata.name(), parameterDescription, metadata.format(),
+          isSize ? metadata.size() : null, optional, attributes);
     }
 
     /**
@@ -657,16 +680,10 @@ public class PrintUtil {
      */
     public Builder parameter(SearchData docData, String description, Boolean optional,
         Attribute... attributes) {
-      String name = docData.getName();
-      String comment = docData.getComment();
-      String format = docData.getFormat();
-      String parameterDescription = hasLength(description) ? description : comment;
+      String parameterDescription = hasLength(description) ? description : docData.getComment();
 
-      if (hasLength(format)) {
-        parameterDescription += " | format: " + format;
-      }
-
-      return parameter(name, parameterDescription, optional, attributes);
+      return addParameter(docData.getName(), parameterDescription, docData.getFormat(), null,
+          optional, attributes);
     }
 
     /**
@@ -713,15 +730,29 @@ public class PrintUtil {
      */
     public Builder parameter(String name, String description, Boolean optional,
         Attribute... attributes) {
-      String parameterName = (hasLength(prefix) ? prefix + "." : "") + name;
-      ParameterDescriptor parameterDescriptor = parameterWithName(parameterName)
-          .description(prefixDescription + " " + description)
-          .attributes(attributes);
+      return addParameter(name, description, null, null, optional, attributes);
+    }
 
-      if (optional) {
-        parameterDescriptor.optional();
-      }
+    /**
+     * {@link ParameterDescriptor} 추가
+     *
+     * @param name        name
+     * @param description description
+     * @param format      format
+     * @param size        size
+     * @param optional    optional
+     * @param attributes  attributes
+     * @return builder
+     * @apiNote {@link DescriptorInterner} 로 이름과 설명을 공유한 {@link ParameterDescriptor} 추가
+     * @author FreshR
+     * @since 2026. 10. 17. 오후 8:55:06
+     */
+    private Builder addParameter(String name, String description, String format, String size,
+        Boolean optional, Attribute... attributes) {
+      ParameterDescriptor parameterDescriptor = DescriptorInterner.parameter(prefix, name,
+          prefixDescription, description, format, size, optional, attributes);
 
+      copyOnWrite();
       parameterList.add(parameterDescriptor);
 
       return this;
@@ -737,6 +768,7 @@ public class PrintUtil {
      * @since 2024. 3. 29. 오후 2:00:15
      */
     public Builder parameters(List<ParameterDescriptor> parameterDescriptors) {
+      copyOnWrite();
       parameterList.addAll(parameterDescriptors);
 
       return this;
@@ -777,6 +809,28 @@ public class PrintUtil {
       return field(path, null, null, prefixOptional, new Attribute[]{});
     }
 
+    /**
+     * {@link FieldDescriptor} 생성
+     *
+     * @param entity QueryDsl entity path 데이터
+     * @param filter 문서에 작성할 {@link Path} 조건
+     * @return builder
+     * @apiNote Q-type 의 모든 property 중 조건에 맞는 {@link Path} 로 {@link FieldDescriptor} 생성<br>
+     *          Embedded property 는 하위 property 를 포함하고, 연관 entity, collection, map, 배열은 제외한다.<br>
+     *          property 목록은 {@link PathMetadataCache} 에서 Q-type 별로 한 번만 조회한다.
+     * @author FreshR
+     * @since 2026. 10. 18. 오전 12:21:07
+     */
+    public Builder field(EntityPathBase<?> entity, Predicate<Path<?>> filter) {
+      for (Path<?> path : PathMetadataCache.properties(entity, Builder::resolveProperties)) {
+        if (filter.test(path)) {
+          field(path);
+        }
+      }
+
+      return this;
+    }
+
     /**
      * {@link FieldDescriptor} 생성
      *
@@ -926,13 +980,11 @@ public class PrintUtil {
      */
     public Builder field(Path<?> path, String description, FieldType type, Boolean optional,
         Attribute... attributes) {
-      HashMap<String, Object> map = pathMap(path);
-      String name = map.get("name").toString();
-      String fieldDescription = hasLength(description) ? description
-          : map.get("description").toString();
-      Object fieldType = !isNull(type) ? type : map.get("type");
+      PathMetadata metadata = pathMetadata(path);
+      String fieldDescription = hasLength(description) ? description : metadata.description();
+      Object fieldType = !isNull(type) ? type : metadata.type();
 
-      return field(name, fieldDescription, fieldType, optional, attributes);
+      return field(metadata.name(), fieldDescription, fieldType, optional, attributes);
     }
 
     /**
@@ -982,16 +1034,10 @@ public class PrintUtil {
      */
     public Builder field(String name, String description, Object type, Boolean optional,
         Attribute... attributes) {
-      String fieldName = (hasLength(prefix) ? prefix + "." : "") + name;
-      FieldDescriptor fieldDescriptor = fieldWithPath(fieldName)
-          .type(type)
-          .description(description)
-          .attributes(attributes);
-
-      if (optional) {
-        fieldDescriptor.optional();
-      }
+      FieldDescriptor fieldDescriptor = DescriptorInterner.field(prefix, name, description, type,
+          optional, attributes);
 
+      copyOnWrite();
       fieldList.add(fieldDescriptor);
 
       return this;
@@ -1007,6 +1053,7 @@ public class PrintUtil {
      * @since 2024. 3. 29. 오후 2:00:15
      */
     public Builder fields(List<FieldDescriptor> fieldDescriptors) {
+      copyOnWrite();
       fieldList.addAll(fieldDescriptors);
 
       return this;
@@ -1024,21 +1071,62 @@ public class PrintUtil {
      *
      * @param path QueryDsl path 데이터
      * @return hash map
-     * @apiNote {@link Path} 정보를 {@link HashMap} 으로 변환
+     * @apiNote {@link Path} 정보를 {@link HashMap} 으로 변환<br>
+     *          {@link #pathMetadata(Path)} 결과를 변환하는 호환용 기능
      * @author FreshR
      * @since 2024. 3. 29. 오후 2:00:15
      */
     public HashMap<String, Object> pathMap(Path<?> path) {
-      HashMap<String, Object> map = new HashMap<>();
+      return pathMetadata(path).toMap();
+    }
+
+    /**
+     * {@link Path} 정보 조회
+     *
+     * @param path QueryDsl path 데이터
+     * @return path metadata
+     * @apiNote {@link Path} 정보를 {@link PathMetadata} 로 조회<br>
+     *          해석한 정보는 {@link PathMetadataCache} 에서 재사용한다.
+     * @author FreshR
+     * @since 2026. 10. 17. 오전 11:02:17
+     */
+    public PathMetadata pathMetadata(Path<?> path) {
+      return PathMetadataCache.get(path, Builder::resolvePath);
+    }
+
+    /**
+     * {@link Path} 정보 해석
+     *
+     * @param path QueryDsl path 데이터
+     * @return path metadata
+     * @apiNote {@link PathMetadataCache} 에 없는 {@link Path} 만 해석<br>
+     *          {@link DescriptorTableRegistry} 에 compile 시점에 생성한 table 이 있으면 annotation 을 읽지 않는다.
+     * @author FreshR
+     * @since 2026. 10. 17. 오전 10:12:48
+     */
+    private static PathMetadata resolvePath(Path<?> path) {
       String qPath = path.toString();
       int qDotPoint = qPath.indexOf(".") + 1;
       String target = qPath.substring(0, qDotPoint);
       String name = qPath.replace(target, "").replace(")", "[]");
-      ColumnType columnType = getColumnType(path.getType().getTypeName());
+      ColumnType columnType = ColumnTypeRegistry.get(path.getType());
       String description = "";
       String size = columnType.getSize();
       String format = columnType.getFormat();
       FieldType type = getJsonType(columnType);
+      Descriptor descriptor = getDescriptor(path);
+
+      if (!isNull(descriptor)) {
+        if (descriptor.enumerated()) {
+          type = ENUM;
+        }
+
+        if (descriptor.length() >= 0 && path.getType() == String.class) {
+          size = descriptor.length() + " characters";
+        }
+
+        return new PathMetadata(name, descriptor.comment(), columnType, size, format, type);
+      }
 
       Comment comment = path.getAnnotatedElement().getAnnotation(Comment.class);
       Column column = path.getAnnotatedElement().getAnnotation(Column.class);
@@ -1052,46 +1140,106 @@ public class PrintUtil {
         type = ENUM;
       }
 
-      if (!isNull(column) && path.getType().getTypeName().equals(String.class.getTypeName())) {
+      if (!isNull(column) && path.getType() == String.class) {
         size = Optional.of(column.length()).orElse(0) + " characters";
       }
 
-      map.put("name", name); // 이름
-      map.put("description", description); // 설명
-      map.put("columnType", columnType); // 컬럼 유형
-      map.put("size", size); // 제한 크기
-      map.put("format", format); // 규칙
-      map.put("type", type); // 유형
+      return new PathMetadata(name, description, columnType, size, format, type);
+    }
+
+    /**
+     * {@link Descriptor} 조회
+     *
+     * @param path QueryDsl path 데이터
+     * @return descriptor
+     * @apiNote property {@link Path} 의 상위 유형 table 에서 조회. 없으면 null
+     * @author FreshR
+     * @since 2026. 10. 18. 오전 12:47:33
+     */
+    private static Descriptor getDescriptor(Path<?> path) {
+      com.querydsl.core.types.PathMetadata metadata = path.getMetadata();
+
+      if (metadata.getPathType() != PathType.PROPERTY || isNull(metadata.getParent())) {
+        return null;
+      }
+
+      return DescriptorTableRegistry.get(metadata.getParent().getType(), metadata.getName());
+    }
 
-      return map;
+    /**
+     * property {@link Path} 목록 조회
+     *
+     * @param entity QueryDsl entity path 데이터
+     * @return list
+     * @apiNote {@link PathMetadataCache} 에 없는 Q-type 만 조회
+     * @author FreshR
+     * @since 2026. 10. 18. 오전 12:21:07
+     */
+    private static List<Path<?>> resolveProperties(EntityPathBase<?> entity) {
+      List<Path<?>> properties = new ArrayList<>();
+
+      collectProperties(entity, properties);
+
+      return properties;
     }
 
     /**
-     * 컬럼 유형 조회
+     * property {@link Path} 수집
      *
-     * @param type 데이터 유형
-     * @return column type
-     * @apiNote 데이터 유형으로 Database 데이터 유형 조회
+     * @param bean       QueryDsl bean path 데이터
+     * @param properties 수집 대상
+     * @apiNote Q-type 에 선언한 순서대로 수집<br>
+     *          연관 entity 와 상위 Q-type(_super) 은 {@link EntityPathBase},
+     *          collection 은 {@link CollectionPathBase}, map 은 {@link MapExpressionBase},
+     *          배열은 {@link ArrayPath} 이므로 제외하고 Embedded 는 하위 property 를 수집
      * @author FreshR
-     * @since 2024. 3. 29. 오후 2:00:15
+     * @since 2026. 10. 18. 오전 12:21:07
      */
-    private ColumnType getColumnType(String type) {
-      return switch (type) {
-        case "java.lang.Float" -> FLOAT;
-        case "java.lang.Double" -> DOUBLE;
-        case "java.lang.BigDecimal" -> DECIMAL;
-        case "java.lang.Byte" -> TINYINT;
-        case "java.lang.Short" -> SMALLINT;
-        case "java.lang.String" -> VARCHAR;
-        case "java.lang.Long" -> BIGINT;
-        case "java.lang.Integer" -> INT;
-        case "java.lang.Boolean" -> BIT;
-        case "java.time.LocalDate" -> DATE;
-        case "java.time.LocalDateTime" -> DATETIME;
-        case "java.time.LocalTime" -> TIME;
-        case "byte[]" -> BLOB;
-        default -> UNKNOWN;
-      };
+    private static void collectProperties(BeanPath<?> bean, List<Path<?>> properties) {
+      for (Field declaredField : bean.getClass().getDeclaredFields()) {
+        int modifiers = declaredField.getModifiers();
+
+        if (Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers)
+            || !Path.class.isAssignableFrom(declaredField.getType())) {
+          continue;
+        }
+
+        Object value;
+
+        try {
+          value = declaredField.get(bean);
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+
+        if (isNull(value) || value instanceof EntityPathBase<?>
+            || value instanceof CollectionPathBase<?, ?, ?>
+            || value instanceof MapExpressionBase<?, ?, ?>
+            || value instanceof ArrayPath<?, ?>) {
+          continue;
+        }
+
+        if (value instanceof BeanPath<?> embedded) {
+          collectProperties(embedded, properties);
+        } else {
+          properties.add((Path<?>) value);
+        }
+      }
+    }
+
+    /**
+     * 공유 목록 복사
+     *
+     * @apiNote {@link Template} 과 공유하고 있는 목록을 항목 추가 전에 복사
+     * @author FreshR
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    private void copyOnWrite() {
+      if (shared) {
+        parameterList = new ArrayList<>(parameterList);
+        fieldList = new ArrayList<>(fieldList);
+        shared = false;
+      }
     }
 
     /**
@@ -1103,7 +1251,7 @@ public class PrintUtil {
      * @author FreshR
      * @since 2024. 3. 29. 오후 2:00:15
      */
-    private FieldType getJsonType(ColumnType columnType) {
+    private static FieldType getJsonType(ColumnType columnType) {
       return switch (columnType) {
         case TINYINT, BIT -> BOOLEAN;
         case FLOAT, DOUBLE, DECIMAL, SMALLINT, BIGINT, INT -> NUMBER;
@@ -1112,4 +1260,98 @@ public class PrintUtil {
     }
   }
 
+  // .___________. _______ .___  ___. .______    __          ___   .___________. _______
+  // |           ||   ____||   \/   | |   _  \  |  |        /   \  |           ||   ____|
+  // `---|  |----`|  |__   |  \  /  | |  |_)  | |  |       /  ^  \ `---|  |----`|  |__
+  //     |  |     |   __|  |  |\/|  | |   ___/  |  |      /  /_\  \    |  |     |   __|
+  //     |  |     |  |____ |  |  |  | |  |      |  `----./  _____  \   |  |     |  |____
+  //     |__|     |_______||__|  |__| | _|      |_______/__/     \__\  |__|     |_______|
+
+  /**
+   * 세부항목 template
+   *
+   * @author FreshR
+   * @apiNote 한 번 작성한 세부항목을 변경할 수 없도록 고정한 template<br>
+   *          {@link #builder()} 로 생성한 {@link Builder} 는 항목을 추가하기 전까지 목록을 공유한다.<br>
+   *          목록의 descriptor 는 모든 {@link Builder} 가 함께 사용하므로 직접 변경하지 않는다.
+   * @since 2026. 10. 17. 오후 1:05:31
+   */
+  public static class Template {
+
+    /**
+     * {@link ParameterDescriptor} 목록
+     *
+     * @apiNote 변경할 수 없는 {@link ParameterDescriptor} 목록
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    @Getter
+    private final List<ParameterDescriptor> parameterList;
+    /**
+     * {@link FieldDescriptor} 목록
+     *
+     * @apiNote 변경할 수 없는 {@link FieldDescriptor} 목록
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    @Getter
+    private final List<FieldDescriptor> fieldList;
+    /**
+     * prefix 경로 변수
+     *
+     * @apiNote 고정할 당시의 prefix 경로
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    private final String prefix;
+    /**
+     * 설명 prefix 변수
+     *
+     * @apiNote 고정할 당시의 설명 prefix
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    private final String prefixDescription;
+    /**
+     * 선택 입력 여부 변수
+     *
+     * @apiNote 고정할 당시의 선택 입력 여부
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    private final Boolean prefixOptional;
+    /**
+     * 설명 Size 정보 추가 여부 변수
+     *
+     * @apiNote 고정할 당시의 설명 Size 정보 추가 여부
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    private final Boolean isSize;
+
+    /**
+     * 생성자
+     *
+     * @param builder builder
+     * @apiNote {@link Builder} 의 목록과 prefix 설정을 고정
+     * @author FreshR
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    private Template(Builder builder) {
+      this.parameterList = List.copyOf(builder.parameterList);
+      this.fieldList = List.copyOf(builder.fieldList);
+      this.prefix = builder.prefix;
+      this.prefixDescription = builder.prefixDescription;
+      this.prefixOptional = builder.prefixOptional;
+      this.isSize = builder.isSize;
+    }
+
+    /**
+     * 세부항목 builder 반환
+     *
+     * @return builder
+     * @apiNote template 의 목록과 prefix 설정을 이어받은 {@link Builder} 반환
+     * @author FreshR
+     * @since 2026. 10. 17. 오후 1:05:31
+     */
+    public Builder builder() {
+      return new Builder(this);
+    }
+
+  }
+
 }
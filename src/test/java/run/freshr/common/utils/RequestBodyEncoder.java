@@ -0,0 +1,63 @@
+package run.freshr.common.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 body 변환 기능
+ *
+ * @author FreshR
+ * @apiNote 요청 body 데이터를 JSON byte 배열로 변환<br>
+ *          유형별로 serializer 를 미리 찾아둔 {@link ObjectWriter} 를 재사용하고,
+ *          Jackson 의 재사용 buffer 에 바로 작성해서 중간 문자열을 만들지 않는다.
+ * @since 2026. 10. 17. 오후 6:15:37
+ */
+public class RequestBodyEncoder {
+
+  /**
+   * object mapper
+   *
+   * @apiNote Application Context 의 {@link ObjectMapper}
+   * @since 2026. 10. 17. 오후 6:15:37
+   */
+  private final ObjectMapper objectMapper;
+  /**
+   * 유형별 {@link ObjectWriter}
+   *
+   * @apiNote 유형별 {@link ObjectWriter}
+   * @since 2026. 10. 17. 오후 6:15:37
+   */
+  private final Map<Class<?>, ObjectWriter> writerMap = new ConcurrentHashMap<>();
+
+  /**
+   * 생성자
+   *
+   * @param objectMapper object mapper
+   * @apiNote 생성자
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 6:15:37
+   */
+  public RequestBodyEncoder(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * 요청 body 변환
+   *
+   * @param content 요청 body 데이터
+   * @return byte [ ]
+   * @throws JsonProcessingException json processing exception
+   * @apiNote 요청 body 데이터를 UTF-8 JSON byte 배열로 변환
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 6:15:37
+   */
+  public byte[] encode(Object content) throws JsonProcessingException {
+    return writerMap
+        .computeIfAbsent(content.getClass(), objectMapper::writerFor)
+        .writeValueAsBytes(content);
+  }
+
+}
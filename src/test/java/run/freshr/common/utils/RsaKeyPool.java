@@ -0,0 +1,201 @@
+package run.freshr.common.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static org.springframework.util.StringUtils.hasLength;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RSA 키 관리
+ *
+ * @author FreshR
+ * @apiNote 테스트에서 사용할 RSA 키를 JVM 에서 한 번만 생성<br>
+ *          {@value #KEY_FILE_PROPERTY} 시스템 속성으로 파일 경로를 설정하면 파일에 저장한 키를 빌드 사이에도 재사용한다.
+ * @since 2026. 10. 17. 오후 5:04:51
+ */
+@Slf4j
+public class RsaKeyPool {
+
+  /**
+   * 키 파일 경로 시스템 속성
+   *
+   * @apiNote 키 파일 경로 시스템 속성
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  public static final String KEY_FILE_PROPERTY = "freshr.test.rsa.key-file";
+  /**
+   * 알고리즘
+   *
+   * @apiNote 알고리즘
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  private static final String ALGORITHM = "RSA";
+  /**
+   * 키 크기
+   *
+   * @apiNote 키 크기
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  private static final int KEY_SIZE = 2048;
+
+  /**
+   * 생성자
+   *
+   * @apiNote 정적 기능만 제공
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  private RsaKeyPool() {
+  }
+
+  /**
+   * RSA 키 조회
+   *
+   * @return key pair
+   * @apiNote 처음 조회할 때 키를 생성하거나 파일에서 읽는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  public static KeyPair get() {
+    return Holder.KEY_PAIR;
+  }
+
+  /**
+   * RSA 공개키 조회
+   *
+   * @return public key
+   * @apiNote Base64 로 인코딩한 X.509 형식의 공개키 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  public static String getPublicKey() {
+    return Holder.PUBLIC_KEY;
+  }
+
+  /**
+   * RSA 키 준비
+   *
+   * @return key pair
+   * @apiNote 키 파일 경로가 있는 경우 파일에서 읽고, 파일이 없거나 읽을 수 없으면 생성해서 저장
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  private static KeyPair load() {
+    String keyFile = System.getProperty(KEY_FILE_PROPERTY);
+
+    if (!hasLength(keyFile)) {
+      return generate();
+    }
+
+    Path path = Path.of(keyFile);
+
+    if (Files.exists(path)) {
+      try {
+        return read(path);
+      } catch (Exception e) {
+        log.warn("RSA key file is invalid. Regenerate: " + path, e);
+      }
+    }
+
+    KeyPair keyPair = generate();
+
+    try {
+      write(path, keyPair);
+    } catch (Exception e) {
+      log.warn("RSA key file could not be written: " + path, e);
+    }
+
+    return keyPair;
+  }
+
+  /**
+   * RSA 키 생성
+   *
+   * @return key pair
+   * @apiNote RSA 키 생성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  private static KeyPair generate() {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance(ALGORITHM);
+
+      generator.initialize(KEY_SIZE);
+
+      return generator.generateKeyPair();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * RSA 키 파일 읽기
+   *
+   * @param path 키 파일 경로
+   * @return key pair
+   * @throws Exception exception
+   * @apiNote 첫 줄은 공개키, 둘째 줄은 개인키
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  private static KeyPair read(Path path) throws Exception {
+    List<String> lines = Files.readAllLines(path, UTF_8);
+    Base64.Decoder decoder = Base64.getDecoder();
+    KeyFactory keyFactory = KeyFactory.getInstance(ALGORITHM);
+
+    return new KeyPair(
+        keyFactory.generatePublic(new X509EncodedKeySpec(decoder.decode(lines.get(0)))),
+        keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decoder.decode(lines.get(1))))
+    );
+  }
+
+  /**
+   * RSA 키 파일 저장
+   *
+   * @param path    키 파일 경로
+   * @param keyPair key pair
+   * @throws Exception exception
+   * @apiNote 첫 줄은 공개키, 둘째 줄은 개인키
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  private static void write(Path path, KeyPair keyPair) throws Exception {
+    Base64.Encoder encoder = Base64.getEncoder();
+
+    if (!isNull(path.getParent())) {
+      Files.createDirectories(path.getParent());
+    }
+
+    Files.write(path, List.of(
+        encoder.encodeToString(keyPair.getPublic().getEncoded()),
+        encoder.encodeToString(keyPair.getPrivate().getEncoded())
+    ), UTF_8);
+  }
+
+  /**
+   * RSA 키 보관
+   *
+   * @author FreshR
+   * @apiNote 처음 사용할 때 한 번만 초기화
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  private static class Holder {
+
+    private static final KeyPair KEY_PAIR = load();
+    private static final String PUBLIC_KEY = Base64.getEncoder()
+        .encodeToString(KEY_PAIR.getPublic().getEncoded());
+
+  }
+
+}
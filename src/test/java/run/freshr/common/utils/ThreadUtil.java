@@ -1,10 +1,22 @@
 package run.freshr.common.utils;
 
+import static java.util.Objects.isNull;
+import static run.freshr.common.security.TokenProvider.signedId;
+import static run.freshr.common.security.TokenProvider.signedRole;
+
+import java.util.concurrent.Callable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import run.freshr.domain.auth.enumerations.Role;
+
 /**
  * 테스트 전역 변수 관리
  *
  * @author FreshR
- * @apiNote 테스트를 실행 중에 사용할 전역 변수 관리
+ * @apiNote 테스트를 실행 중에 사용할 전역 변수 관리<br>
+ *          값은 테스트를 실행하는 thread 별로 관리하므로 테스트 클래스를 병렬로 실행해도 섞이지 않는다.<br>
+ *          다른 thread 에서 실행하는 작업은 값을 이어받지 않으므로 {@link #wrap(Runnable)} 를 사용한다.<br>
+ *          thread pool 의 thread 가 생성 시점의 인증 정보를 계속 갖고 있지 않도록 상속하지 않는다.
  * @since 2024. 3. 29. 오후 2:03:28
  */
 public class ThreadUtil {
@@ -13,4 +25,115 @@ public class ThreadUtil {
   public static ThreadLocal<String> threadRefresh = new ThreadLocal<>(); // REFRESH TOKEN
   public static ThreadLocal<String> threadPublicKey = new ThreadLocal<>(); // RSA PUBLIC KEY
 
+  /**
+   * 인증 정보 전달
+   *
+   * @param runnable 작업
+   * @return runnable
+   * @apiNote 현재 thread 의 인증 정보를 작업을 실행하는 thread 에 전달<br>
+   *          작업이 끝나면 실행한 thread 의 인증 정보를 되돌린다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:41:09
+   */
+  public static Runnable wrap(Runnable runnable) {
+    Snapshot snapshot = Snapshot.capture();
+
+    return () -> {
+      Snapshot previous = Snapshot.capture();
+
+      snapshot.restore();
+
+      try {
+        runnable.run();
+      } finally {
+        previous.restore();
+      }
+    };
+  }
+
+  /**
+   * 인증 정보 전달
+   *
+   * @param <V>      반환 데이터 유형
+   * @param callable 작업
+   * @return callable
+   * @apiNote 현재 thread 의 인증 정보를 작업을 실행하는 thread 에 전달<br>
+   *          작업이 끝나면 실행한 thread 의 인증 정보를 되돌린다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:41:09
+   */
+  public static <V> Callable<V> wrap(Callable<V> callable) {
+    Snapshot snapshot = Snapshot.capture();
+
+    return () -> {
+      Snapshot previous = Snapshot.capture();
+
+      snapshot.restore();
+
+      try {
+        return callable.call();
+      } finally {
+        previous.restore();
+      }
+    };
+  }
+
+  /**
+   * 인증 정보 제거
+   *
+   * @apiNote 현재 thread 의 토큰, 공개키, 인증 정보 제거
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:41:09
+   */
+  public static void clear() {
+    Snapshot.EMPTY.restore();
+  }
+
+  /**
+   * 인증 정보
+   *
+   * @param access          access token
+   * @param refresh         refresh token
+   * @param publicKey       RSA public key
+   * @param id              로그인한 계정 일련 번호
+   * @param role            로그인한 계정 권한
+   * @param securityContext security context
+   * @author FreshR
+   * @apiNote thread 의 인증 정보
+   * @since 2026. 10. 17. 오후 5:41:09
+   */
+  private record Snapshot(String access, String refresh, String publicKey, String id, Role role,
+                          SecurityContext securityContext) {
+
+    private static final Snapshot EMPTY = new Snapshot(null, null, null, null, null, null);
+
+    private static Snapshot capture() {
+      return new Snapshot(threadAccess.get(), threadRefresh.get(), threadPublicKey.get(),
+          signedId.get(), signedRole.get(), SecurityContextHolder.getContext());
+    }
+
+    private void restore() {
+      restore(threadAccess, access);
+      restore(threadRefresh, refresh);
+      restore(threadPublicKey, publicKey);
+      restore(signedId, id);
+      restore(signedRole, role);
+
+      if (isNull(securityContext)) {
+        SecurityContextHolder.clearContext();
+      } else {
+        SecurityContextHolder.setContext(securityContext);
+      }
+    }
+
+    private static <T> void restore(ThreadLocal<T> threadLocal, T value) {
+      if (isNull(value)) {
+        threadLocal.remove();
+      } else {
+        threadLocal.set(value);
+      }
+    }
+
+  }
+
 }
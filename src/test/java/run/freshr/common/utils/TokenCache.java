@@ -0,0 +1,184 @@
+package run.freshr.common.utils;
+
+import static java.util.Collections.synchronizedMap;
+import static java.util.Objects.isNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import run.freshr.domain.auth.enumerations.Role;
+
+/**
+ * 인증 토큰 캐시
+ *
+ * @author FreshR
+ * @apiNote 일련 번호와 권한별로 발급한 토큰을 유효 시간 동안 재사용<br>
+ *          토큰을 발급한 service 별로 캐시를 관리하므로 Application Context 가 다르면 캐시도 다르다.
+ * @since 2026. 10. 17. 오후 4:30:26
+ */
+public class TokenCache {
+
+  /**
+   * service 별 캐시
+   *
+   * @apiNote service 가 정리되면 캐시도 함께 정리
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  private static final Map<Object, TokenCache> CACHE_MAP = synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * 토큰 저장소
+   *
+   * @apiNote 일련 번호와 권한별 토큰
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  private final Map<TokenKey, Token> tokenMap = new ConcurrentHashMap<>();
+
+  /**
+   * 생성자
+   *
+   * @apiNote {@link #of(Object)} 로 생성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  private TokenCache() {
+  }
+
+  /**
+   * 캐시 조회
+   *
+   * @param owner 토큰을 발급하는 service
+   * @return token cache
+   * @apiNote service 별 캐시 조회. 없는 경우 생성
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  public static TokenCache of(Object owner) {
+    return CACHE_MAP.computeIfAbsent(owner, key -> new TokenCache());
+  }
+
+  /**
+   * 토큰 조회
+   *
+   * @param id   일련 번호
+   * @param role 권한
+   * @return token. 없거나 유효 시간이 지난 경우 null
+   * @apiNote 토큰 조회
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  public Token get(String id, Role role) {
+    TokenKey key = new TokenKey(id, role);
+    Token token = tokenMap.get(key);
+
+    if (isNull(token)) {
+      return null;
+    }
+
+    if (token.isExpired()) {
+      tokenMap.remove(key, token);
+
+      return null;
+    }
+
+    return token;
+  }
+
+  /**
+   * 토큰 저장
+   *
+   * @param id      일련 번호
+   * @param role    권한
+   * @param access  access token
+   * @param refresh refresh token
+   * @param ttl     유효 시간
+   * @apiNote 토큰 저장<br>
+   *          nanosecond 로 표현할 수 없는 유효 시간은 {@link Long#MAX_VALUE} 로 제한
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  public void put(String id, Role role, String access, String refresh, Duration ttl) {
+    tokenMap.put(new TokenKey(id, role),
+        new Token(access, refresh, System.nanoTime(), toNanos(ttl)));
+  }
+
+  /**
+   * 유효 시간 변환
+   *
+   * @param ttl 유효 시간
+   * @return long
+   * @apiNote nanosecond 범위를 넘으면 {@link Long#MAX_VALUE}, 음수면 0
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 2:05:44
+   */
+  private static long toNanos(Duration ttl) {
+    if (ttl.isNegative()) {
+      return 0;
+    }
+
+    try {
+      return ttl.toNanos();
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  /**
+   * 토큰 제거
+   *
+   * @param id   일련 번호
+   * @param role 권한
+   * @apiNote 토큰 제거
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  public void invalidate(String id, Role role) {
+    tokenMap.remove(new TokenKey(id, role));
+  }
+
+  /**
+   * 모든 토큰 제거
+   *
+   * @apiNote 모든 토큰 제거
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  public void invalidateAll() {
+    tokenMap.clear();
+  }
+
+  /**
+   * 토큰 key
+   *
+   * @param id   일련 번호
+   * @param role 권한
+   * @author FreshR
+   * @apiNote 토큰 key
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  private record TokenKey(String id, Role role) {
+
+  }
+
+  /**
+   * 토큰
+   *
+   * @param access   access token
+   * @param refresh  refresh token
+   * @param issuedAt 저장 시점 ({@link System#nanoTime()} 기준)
+   * @param ttl      유효 시간 (nanosecond)
+   * @author FreshR
+   * @apiNote 발급한 토큰<br>
+   *          만료 시점을 더해서 저장하면 큰 유효 시간에서 overflow 가 발생하므로 경과 시간으로 비교
+   * @since 2026. 10. 17. 오후 4:30:26
+   */
+  public record Token(String access, String refresh, long issuedAt, long ttl) {
+
+    private boolean isExpired() {
+      return System.nanoTime() - issuedAt >= ttl;
+    }
+
+  }
+
+}
@@ -1,5 +1,6 @@
 package run.freshr.service;
 
+import java.security.KeyPair;
 import org.springframework.boot.ApplicationRunner;
 import run.freshr.domain.auth.enumerations.Role;
 
@@ -31,6 +32,23 @@ public interface TestSecurityServiceAware {
    */
   void createRsa();
 
+  /**
+   * RSA 키 설정
+   *
+   * @param keyPair 미리 생성한 RSA 키
+   * @return 전달받은 키 사용 여부
+   * @apiNote 미리 생성한 RSA 키를 설정<br>
+   *          재정의하지 않으면 {@link #createRsa()} 로 키를 생성하고 false 를 반환한다.<br>
+   *          재정의해서 전달받은 키를 사용하면 true 를 반환하고, 테스트마다 키를 생성하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 17. 오후 5:04:51
+   */
+  default boolean createRsa(KeyPair keyPair) {
+    createRsa();
+
+    return false;
+  }
+
   /**
    * 인증인가 정보 생성
    *